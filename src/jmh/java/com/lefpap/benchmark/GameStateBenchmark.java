@@ -0,0 +1,57 @@
+package com.lefpap.benchmark;
+
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.PlayerChoice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for playing rounds on a {@link GameState} and checking for a winner.
+ *
+ * <p>
+ * The winning score is high enough that no game is ever decided. The game state is reset
+ * every iteration and every {@value #ROUNDS_PER_MATCH} rounds, which keeps the recorded
+ * history, and so the measured cost of recording, bounded however long an iteration runs.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateBenchmark {
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+    private static final int ROUNDS_PER_MATCH = 1 << 16;
+
+    @Param({"true", "false"})
+    private boolean recordRounds;
+
+    private GameState gameState;
+    private int counter;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        gameState = new GameState(Integer.MAX_VALUE, recordRounds);
+        counter = 0;
+    }
+
+    @Benchmark
+    public RoundResult playRound() {
+        if (gameState.getRoundCount() == ROUNDS_PER_MATCH) {
+            gameState = new GameState(Integer.MAX_VALUE, recordRounds);
+        }
+        int i = counter;
+        counter = counter == 8 ? 0 : counter + 1;
+        return gameState.playRound(CHOICES[i % 3], CHOICES[i / 3]);
+    }
+
+    @Benchmark
+    public Optional<?> getWinner() {
+        return gameState.getWinner();
+    }
+}
@@ -0,0 +1,41 @@
+package com.lefpap.benchmark;
+
+import com.lefpap.player.strategy.RandomChoiceStrategy;
+import com.lefpap.simulation.MatchSimulator;
+import com.lefpap.simulation.SimulationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Benchmarks a full headless match between two random strategies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchBenchmark {
+
+    @Param({"3", "100"})
+    private int scoreToWin;
+
+    private MatchSimulator simulator;
+
+    @Setup
+    public void setup() {
+        RandomGeneratorFactory<?> factory = RandomGeneratorFactory.of("L64X128MixRandom");
+        simulator = new MatchSimulator(
+            new RandomChoiceStrategy(factory.create(1)),
+            new RandomChoiceStrategy(factory.create(2)),
+            scoreToWin
+        );
+    }
+
+    @Benchmark
+    public SimulationResult playMatch() {
+        return simulator.simulate(1);
+    }
+}
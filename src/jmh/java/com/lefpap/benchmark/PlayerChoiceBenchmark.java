@@ -0,0 +1,53 @@
+package com.lefpap.benchmark;
+
+import com.lefpap.player.PlayerChoice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for comparing and parsing {@link PlayerChoice} values.
+ *
+ * <p>
+ * Each benchmark takes its parameters from its own state, so comparisons only run for every
+ * choice and parsing only for every input, rather than for every combination of both.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerChoiceBenchmark {
+
+    @State(Scope.Thread)
+    public static class Comparison {
+
+        @Param({"ROCK", "PAPER", "SCISSORS"})
+        private PlayerChoice choice;
+
+        private PlayerChoice other;
+
+        @Setup
+        public void setup() {
+            other = PlayerChoice.SCISSORS;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Parsing {
+
+        @Param({"x", "scissors", "invalid"})
+        private String input;
+    }
+
+    @Benchmark
+    public boolean beats(Comparison state) {
+        return state.choice.beats(state.other);
+    }
+
+    @Benchmark
+    public Object of(Parsing state) {
+        return PlayerChoice.of(state.input);
+    }
+}
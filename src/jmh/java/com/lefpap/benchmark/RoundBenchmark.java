@@ -0,0 +1,52 @@
+package com.lefpap.benchmark;
+
+import com.lefpap.gamestate.Round;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.PlayerChoice;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for resolving the result of a round.
+ *
+ * <p>
+ * Every invocation plays the next of the nine choice pairs, cycling through them with a
+ * bounded counter.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    private int counter;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        counter = 0;
+    }
+
+    @Benchmark
+    public Round newRound() {
+        int i = nextPair();
+        return new Round(i + 1, CHOICES[i % 3], CHOICES[i / 3]);
+    }
+
+    @Benchmark
+    public RoundResult resolveResult() {
+        int i = nextPair();
+        return RoundResult.of(CHOICES[i % 3], CHOICES[i / 3]);
+    }
+
+    private int nextPair() {
+        int i = counter;
+        counter = counter == 8 ? 0 : counter + 1;
+        return i;
+    }
+}
@@ -0,0 +1,48 @@
+package com.lefpap.benchmark;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.player.strategy.RandomChoiceStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Benchmarks for the built-in non-interactive choice strategies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+    private RandomChoiceStrategy randomWithRandom;
+    private RandomChoiceStrategy randomWithMixRandom;
+    private ForceChoiceStrategy force;
+
+    @Setup
+    public void setup() {
+        randomWithRandom = new RandomChoiceStrategy(new Random(42));
+        randomWithMixRandom = new RandomChoiceStrategy(RandomGeneratorFactory.of("L64X128MixRandom").create(42));
+        force = new ForceChoiceStrategy(PlayerChoice.ROCK);
+    }
+
+    @Benchmark
+    public PlayerChoice randomWithRandom() {
+        return randomWithRandom.makeChoice();
+    }
+
+    @Benchmark
+    public PlayerChoice randomWithMixRandom() {
+        return randomWithMixRandom.makeChoice();
+    }
+
+    @Benchmark
+    public PlayerChoice force() {
+        return force.makeChoice();
+    }
+}
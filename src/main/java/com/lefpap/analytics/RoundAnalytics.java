@@ -0,0 +1,188 @@
+package com.lefpap.analytics;
+
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.util.stream.IntStream;
+
+/**
+ * Aggregates statistics over a {@link RoundColumns} store.
+ *
+ * <p>
+ * Aggregations that are independent per round (frequencies, win rates, transitions) split the
+ * columns into chunks that are counted in parallel into small primitive arrays and then summed.
+ * Streaks depend on the order of the rounds of each match and are computed in a single
+ * sequential pass. All counts are indexed by {@link PlayerChoice#ordinal()}.
+ * </p>
+ */
+public class RoundAnalytics {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    private final RoundColumns columns;
+
+    /**
+     * Constructs a new {@code RoundAnalytics} over the specified rounds.
+     *
+     * @param columns the rounds to aggregate
+     */
+    public RoundAnalytics(RoundColumns columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Counts how often the specified player made each choice.
+     *
+     * @param playerIndex the player whose choices are counted
+     * @return the number of rounds per choice, indexed by choice ordinal
+     */
+    public long[] choiceFrequencies(PlayerIndex playerIndex) {
+        byte[] choices = choicesOf(playerIndex);
+        return chunks()
+            .mapToObj(chunk -> {
+                long[] counts = new long[CHOICES.length];
+                for (int row = chunkStart(chunk), end = chunkEnd(chunk); row < end; row++) {
+                    counts[choices[row]]++;
+                }
+                return counts;
+            })
+            .reduce(new long[CHOICES.length], RoundAnalytics::sum);
+    }
+
+    /**
+     * Computes, for each choice, the fraction of rounds it won among all rounds it was played in,
+     * by either player. A round in which both players made the same choice counts once, as a draw.
+     *
+     * @return the win rate per choice, indexed by choice ordinal ({@code 0} for choices never played)
+     */
+    public double[] winRateByChoice() {
+        byte[] playerOneChoices = columns.playerOneChoices();
+        byte[] playerTwoChoices = columns.playerTwoChoices();
+
+        // counts[0 .. n) = times played, counts[n .. 2n) = times won
+        long[] counts = chunks()
+            .mapToObj(chunk -> {
+                long[] partial = new long[CHOICES.length * 2];
+                for (int row = chunkStart(chunk), end = chunkEnd(chunk); row < end; row++) {
+                    int playerOneChoice = playerOneChoices[row];
+                    int playerTwoChoice = playerTwoChoices[row];
+                    switch (RoundResult.of(CHOICES[playerOneChoice], CHOICES[playerTwoChoice])) {
+                        case PLAYER_ONE_WINS -> partial[CHOICES.length + playerOneChoice]++;
+                        case PLAYER_TWO_WINS -> partial[CHOICES.length + playerTwoChoice]++;
+                        case DRAW -> {
+                            // Nobody wins a draw
+                        }
+                    }
+                    partial[playerOneChoice]++;
+                    if (playerTwoChoice != playerOneChoice) {
+                        partial[playerTwoChoice]++;
+                    }
+                }
+                return partial;
+            })
+            .reduce(new long[CHOICES.length * 2], RoundAnalytics::sum);
+
+        double[] winRates = new double[CHOICES.length];
+        for (int choice = 0; choice < CHOICES.length; choice++) {
+            long played = counts[choice];
+            winRates[choice] = played == 0 ? 0 : (double) counts[CHOICES.length + choice] / played;
+        }
+        return winRates;
+    }
+
+    /**
+     * Counts the transitions between consecutive choices of the specified player within a match.
+     *
+     * <p>
+     * Cell {@code [from][to]} holds how often the player chose {@code to} in the round directly
+     * following a round in which they chose {@code from}. Expects the rounds to be
+     * {@link RoundColumns#sortByMatch() sorted by match}.
+     * </p>
+     *
+     * @param playerIndex the player whose transitions are counted
+     * @return the transition counts, indexed by choice ordinals
+     */
+    public long[][] transitionMatrix(PlayerIndex playerIndex) {
+        byte[] choices = choicesOf(playerIndex);
+        long[] matchIds = columns.matchIds();
+        int[] roundIndexes = columns.roundIndexes();
+
+        long[] flat = chunks()
+            .mapToObj(chunk -> {
+                long[] counts = new long[CHOICES.length * CHOICES.length];
+                for (int row = Math.max(1, chunkStart(chunk)), end = chunkEnd(chunk); row < end; row++) {
+                    if (matchIds[row] == matchIds[row - 1] && roundIndexes[row] == roundIndexes[row - 1] + 1) {
+                        counts[choices[row - 1] * CHOICES.length + choices[row]]++;
+                    }
+                }
+                return counts;
+            })
+            .reduce(new long[CHOICES.length * CHOICES.length], RoundAnalytics::sum);
+
+        long[][] matrix = new long[CHOICES.length][CHOICES.length];
+        for (int from = 0; from < CHOICES.length; from++) {
+            System.arraycopy(flat, from * CHOICES.length, matrix[from], 0, CHOICES.length);
+        }
+        return matrix;
+    }
+
+    /**
+     * Finds the longest run of consecutive rounds won by the specified player within a single match.
+     * Draws and lost rounds end a streak. Expects the rounds to be
+     * {@link RoundColumns#sortByMatch() sorted by match}.
+     *
+     * @param playerIndex the player whose streaks are measured
+     * @return the length of the longest win streak
+     */
+    public int longestWinStreak(PlayerIndex playerIndex) {
+        byte[] playerOneChoices = columns.playerOneChoices();
+        byte[] playerTwoChoices = columns.playerTwoChoices();
+        long[] matchIds = columns.matchIds();
+        RoundResult win = playerIndex == PlayerIndex.PLAYER_ONE ? RoundResult.PLAYER_ONE_WINS : RoundResult.PLAYER_TWO_WINS;
+
+        int longest = 0;
+        int current = 0;
+        for (int row = 0; row < columns.size(); row++) {
+            if (row > 0 && matchIds[row] != matchIds[row - 1]) {
+                current = 0;
+            }
+
+            if (RoundResult.of(CHOICES[playerOneChoices[row]], CHOICES[playerTwoChoices[row]]) == win) {
+                longest = Math.max(longest, ++current);
+            } else {
+                current = 0;
+            }
+        }
+        return longest;
+    }
+
+    private byte[] choicesOf(PlayerIndex playerIndex) {
+        return switch (playerIndex) {
+            case PLAYER_ONE -> columns.playerOneChoices();
+            case PLAYER_TWO -> columns.playerTwoChoices();
+        };
+    }
+
+    private IntStream chunks() {
+        int chunks = (columns.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks).parallel();
+    }
+
+    private int chunkStart(int chunk) {
+        return chunk * CHUNK_SIZE;
+    }
+
+    private int chunkEnd(int chunk) {
+        return Math.min(columns.size(), (chunk + 1) * CHUNK_SIZE);
+    }
+
+    private static long[] sum(long[] left, long[] right) {
+        long[] result = new long[left.length];
+        for (int i = 0; i < left.length; i++) {
+            result[i] = left[i] + right[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,185 @@
+package com.lefpap.analytics;
+
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.journal.MatchJournalReader;
+import com.lefpap.journal.RoundRecordVisitor;
+import com.lefpap.player.PlayerChoice;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A column-oriented store of recorded rounds.
+ *
+ * <p>
+ * Each field of a round is kept in its own primitive array (match id, round index and the choice
+ * ordinals of both players), so aggregations only touch the columns they need and scan them
+ * sequentially. Columns are filled by appending, for instance by passing the store as the
+ * {@link RoundRecordVisitor} of a {@link MatchJournalReader#scan(RoundRecordVisitor) journal scan}.
+ * </p>
+ *
+ * <p>
+ * Aggregations that follow a match over time (transitions, streaks) expect the rounds of each
+ * match to be stored consecutively and in order; use {@link #sortByMatch()} when the rounds were
+ * recorded from interleaved matches.
+ * </p>
+ *
+ * <p>
+ * The store holds rounds of the {@link RuleSet#classic() classic} game only, since all aggregations
+ * resolve rounds by {@link PlayerChoice}.
+ * </p>
+ */
+public class RoundColumns implements RoundRecordVisitor {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int CHOICE_COUNT = PlayerChoice.values().length;
+
+    private long[] matchIds;
+    private int[] roundIndexes;
+    private byte[] playerOneChoices;
+    private byte[] playerTwoChoices;
+    private int size;
+
+    /**
+     * Constructs a new, empty {@code RoundColumns}.
+     */
+    public RoundColumns() {
+        this.matchIds = new long[INITIAL_CAPACITY];
+        this.roundIndexes = new int[INITIAL_CAPACITY];
+        this.playerOneChoices = new byte[INITIAL_CAPACITY];
+        this.playerTwoChoices = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Loads the round records of all classic matches of a journal. Rounds of matches played with
+     * other rule sets are skipped.
+     *
+     * @param reader the journal to load
+     * @return a new {@code RoundColumns} holding every recorded classic round
+     */
+    public static RoundColumns load(MatchJournalReader reader) {
+        RoundColumns columns = new RoundColumns();
+        reader.scan(RuleSet.classic(), columns);
+        return columns;
+    }
+
+    /**
+     * Appends a round.
+     *
+     * @param matchId the id of the match the round belongs to
+     * @param roundIndex the index of the round, starting from 1
+     * @param playerOneChoice the ordinal of the choice made by Player One
+     * @param playerTwoChoice the ordinal of the choice made by Player Two
+     * @throws IndexOutOfBoundsException if a choice is not a {@link PlayerChoice} ordinal
+     */
+    @Override
+    public void visit(long matchId, int roundIndex, int playerOneChoice, int playerTwoChoice) {
+        Objects.checkIndex(playerOneChoice, CHOICE_COUNT);
+        Objects.checkIndex(playerTwoChoice, CHOICE_COUNT);
+        if (size == matchIds.length) {
+            int capacity = size * 2;
+            matchIds = Arrays.copyOf(matchIds, capacity);
+            roundIndexes = Arrays.copyOf(roundIndexes, capacity);
+            playerOneChoices = Arrays.copyOf(playerOneChoices, capacity);
+            playerTwoChoices = Arrays.copyOf(playerTwoChoices, capacity);
+        }
+
+        matchIds[size] = matchId;
+        roundIndexes[size] = roundIndex;
+        playerOneChoices[size] = (byte) playerOneChoice;
+        playerTwoChoices[size] = (byte) playerTwoChoice;
+        size++;
+    }
+
+    /**
+     * Gets the number of stored rounds.
+     *
+     * @return the number of rounds
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reorders the rounds by match id and round index, unless they are already in that order.
+     * The sort is stable, so rounds of a match with equal indexes keep their relative order.
+     */
+    public void sortByMatch() {
+        if (isSortedByMatch()) {
+            return;
+        }
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergeSort(order, new int[size], 0, size);
+
+        long[] sortedMatchIds = new long[matchIds.length];
+        int[] sortedRoundIndexes = new int[roundIndexes.length];
+        byte[] sortedPlayerOneChoices = new byte[playerOneChoices.length];
+        byte[] sortedPlayerTwoChoices = new byte[playerTwoChoices.length];
+        for (int i = 0; i < size; i++) {
+            int row = order[i];
+            sortedMatchIds[i] = matchIds[row];
+            sortedRoundIndexes[i] = roundIndexes[row];
+            sortedPlayerOneChoices[i] = playerOneChoices[row];
+            sortedPlayerTwoChoices[i] = playerTwoChoices[row];
+        }
+        matchIds = sortedMatchIds;
+        roundIndexes = sortedRoundIndexes;
+        playerOneChoices = sortedPlayerOneChoices;
+        playerTwoChoices = sortedPlayerTwoChoices;
+    }
+
+    long[] matchIds() {
+        return matchIds;
+    }
+
+    int[] roundIndexes() {
+        return roundIndexes;
+    }
+
+    byte[] playerOneChoices() {
+        return playerOneChoices;
+    }
+
+    byte[] playerTwoChoices() {
+        return playerTwoChoices;
+    }
+
+    private boolean isSortedByMatch() {
+        for (int row = 1; row < size; row++) {
+            if (compareRows(row - 1, row) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int compareRows(int left, int right) {
+        int byMatch = Long.compare(matchIds[left], matchIds[right]);
+        return byMatch != 0 ? byMatch : Integer.compare(roundIndexes[left], roundIndexes[right]);
+    }
+
+    private void mergeSort(int[] order, int[] scratch, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeSort(order, scratch, from, middle);
+        mergeSort(order, scratch, middle, to);
+
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compareRows(order[left], order[right]) <= 0)) {
+                scratch[i] = order[left++];
+            } else {
+                scratch[i] = order[right++];
+            }
+        }
+        System.arraycopy(scratch, from, order, from, to - from);
+    }
+}
@@ -0,0 +1,102 @@
+package com.lefpap.event;
+
+import com.lefpap.gamestate.MatchStatus;
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.player.PlayerIndex;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A sink that appends every event as a comma-separated line to a text file.
+ *
+ * <p>
+ * Lines are written through a {@link BufferedWriter} and only reach the file when the buffer
+ * fills up, on {@link #flush()} or on {@link #close()}. The line formats are:
+ * <ul>
+ *   <li>{@code started,<scoreToWin>}</li>
+ *   <li>{@code round,<index>,<playerOneChoice>,<playerTwoChoice>,<result>,<playerOneScore>,<playerTwoScore>}</li>
+ *   <li>{@code finished,<winner>,<rounds>}, where the winner is {@code UNDECIDED} for matches without one</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * This sink is not thread-safe; use one sink per thread or per match.
+ * </p>
+ */
+public class BufferedFileEventSink implements MatchEventSink, Closeable {
+
+    private final BufferedWriter writer;
+
+    /**
+     * Opens the specified file for appending, creating it if it does not exist.
+     *
+     * @param file the file to append the events to
+     * @throws IOException if the file cannot be opened
+     */
+    public BufferedFileEventSink(Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        );
+    }
+
+    @Override
+    public void onMatchStarted(MatchView match) {
+        writeLine("started," + match.getScoreToWin());
+    }
+
+    @Override
+    public void onRoundResolved(MatchView match) {
+        writeLine("round,%d,%s,%s,%s,%d,%d".formatted(
+            match.getRoundCount(),
+            match.getRuleSet().getName(match.getLastChoiceIndex(PlayerIndex.PLAYER_ONE)),
+            match.getRuleSet().getName(match.getLastChoiceIndex(PlayerIndex.PLAYER_TWO)),
+            match.getLastResult(),
+            match.getPlayerScore(PlayerIndex.PLAYER_ONE),
+            match.getPlayerScore(PlayerIndex.PLAYER_TWO)
+        ));
+    }
+
+    @Override
+    public void onMatchFinished(MatchView match) {
+        String winner = match.getWinner().map(PlayerIndex::name).orElse(MatchStatus.UNDECIDED.name());
+        writeLine("finished,%s,%d".formatted(winner, match.getRoundCount()));
+    }
+
+    /**
+     * Writes all buffered lines to the file.
+     *
+     * @throws IOException if the lines cannot be written
+     */
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Writes all buffered lines and closes the file.
+     *
+     * @throws IOException if the lines cannot be written or the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
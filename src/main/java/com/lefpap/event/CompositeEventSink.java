@@ -0,0 +1,38 @@
+package com.lefpap.event;
+
+import com.lefpap.gamestate.MatchView;
+
+import java.util.List;
+
+/**
+ * Forwards every event to a fixed list of sinks, in order.
+ */
+class CompositeEventSink implements MatchEventSink {
+
+    private final MatchEventSink[] sinks;
+
+    CompositeEventSink(List<MatchEventSink> sinks) {
+        this.sinks = sinks.toArray(MatchEventSink[]::new);
+    }
+
+    @Override
+    public void onMatchStarted(MatchView match) {
+        for (MatchEventSink sink : sinks) {
+            sink.onMatchStarted(match);
+        }
+    }
+
+    @Override
+    public void onRoundResolved(MatchView match) {
+        for (MatchEventSink sink : sinks) {
+            sink.onRoundResolved(match);
+        }
+    }
+
+    @Override
+    public void onMatchFinished(MatchView match) {
+        for (MatchEventSink sink : sinks) {
+            sink.onMatchFinished(match);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.lefpap.event;
+
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.gamestate.RoundResult;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * An in-memory sink that counts matches, rounds and round results.
+ *
+ * <p>
+ * The counters are {@link LongAdder}s, so a single {@code EventCounter} can be shared
+ * by many matches running concurrently on different threads.
+ * </p>
+ *
+ * <p>
+ * The counters are named {@code matches.started}, {@code matches.finished}, {@code rounds} and
+ * {@code rounds.<result>} per {@link RoundResult}. They are created by the counter factory passed
+ * to the constructor, so the counts can live in an external registry.
+ * </p>
+ */
+public class EventCounter implements MatchEventSink {
+
+    private static final RoundResult[] RESULTS = RoundResult.values();
+
+    private final LongAdder matchesStarted;
+    private final LongAdder matchesFinished;
+    private final LongAdder rounds;
+    private final LongAdder[] results;
+
+    /**
+     * Constructs a new {@code EventCounter} with all counts at zero.
+     */
+    public EventCounter() {
+        this(name -> new LongAdder());
+    }
+
+    /**
+     * Constructs a new {@code EventCounter} counting into the counters created by the specified factory.
+     * The factory is called once per counter name, when the counter is constructed.
+     *
+     * @param counters creates the counter with a given name
+     */
+    public EventCounter(Function<String, LongAdder> counters) {
+        this.matchesStarted = counters.apply("matches.started");
+        this.matchesFinished = counters.apply("matches.finished");
+        this.rounds = counters.apply("rounds");
+        this.results = new LongAdder[RESULTS.length];
+        for (RoundResult result : RESULTS) {
+            results[result.ordinal()] = counters.apply("rounds." + result);
+        }
+    }
+
+    @Override
+    public void onMatchStarted(MatchView match) {
+        matchesStarted.increment();
+    }
+
+    @Override
+    public void onRoundResolved(MatchView match) {
+        rounds.increment();
+        results[match.getLastResult().ordinal()].increment();
+    }
+
+    @Override
+    public void onMatchFinished(MatchView match) {
+        matchesFinished.increment();
+    }
+
+    /**
+     * Gets the number of started matches.
+     *
+     * @return the number of matches started
+     */
+    public long getMatchesStarted() {
+        return matchesStarted.sum();
+    }
+
+    /**
+     * Gets the number of finished matches.
+     *
+     * @return the number of matches finished
+     */
+    public long getMatchesFinished() {
+        return matchesFinished.sum();
+    }
+
+    /**
+     * Gets the number of resolved rounds.
+     *
+     * @return the number of rounds resolved
+     */
+    public long getRounds() {
+        return rounds.sum();
+    }
+
+    /**
+     * Gets the number of rounds that ended with the specified result.
+     *
+     * @param result the round result to count
+     * @return the number of rounds with that result
+     */
+    public long getRounds(RoundResult result) {
+        return results[result.ordinal()].sum();
+    }
+}
@@ -0,0 +1,72 @@
+package com.lefpap.event;
+
+import com.lefpap.gamestate.MatchView;
+
+import java.util.List;
+
+/**
+ * Receives the events of a match as they are published by a {@link com.lefpap.gamestate.GameState}.
+ *
+ * <p>
+ * Every event carries the live {@link MatchView} of the match, so publishing an event allocates
+ * nothing: sinks read whatever they need (last choices, result, scores, winner) from the view
+ * while handling the event, and must not retain the view as a snapshot. All methods do nothing
+ * by default, so a sink only implements the events it is interested in.
+ * </p>
+ *
+ * <p>
+ * The events of a match are published in order:
+ * {@link #onMatchStarted(MatchView)} before the first round is resolved,
+ * {@link #onRoundResolved(MatchView)} once per round, and
+ * {@link #onMatchFinished(MatchView)} once a winner has been determined.
+ * </p>
+ */
+public interface MatchEventSink {
+
+    /**
+     * A sink that ignores all events.
+     */
+    MatchEventSink NONE = new MatchEventSink() {
+    };
+
+    /**
+     * Combines several sinks into one that forwards every event to each of them, in order.
+     *
+     * @param sinks the sinks to combine
+     * @return a sink publishing to all the specified sinks
+     */
+    static MatchEventSink of(MatchEventSink... sinks) {
+        return switch (sinks.length) {
+            case 0 -> NONE;
+            case 1 -> sinks[0];
+            default -> new CompositeEventSink(List.of(sinks));
+        };
+    }
+
+    /**
+     * Called when a match starts, right before its first round is resolved.
+     *
+     * @param match a read-only view of the match
+     */
+    default void onMatchStarted(MatchView match) {
+        // Do nothing by default
+    }
+
+    /**
+     * Called after a round has been resolved and scored.
+     *
+     * @param match a read-only view of the match, including the resolved round
+     */
+    default void onRoundResolved(MatchView match) {
+        // Do nothing by default
+    }
+
+    /**
+     * Called once a winner has been determined, after the event of the deciding round.
+     *
+     * @param match a read-only view of the finished match
+     */
+    default void onMatchFinished(MatchView match) {
+        // Do nothing by default
+    }
+}
@@ -0,0 +1,93 @@
+package com.lefpap.game;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.PlayerIndex;
+
+import java.io.PrintStream;
+
+/**
+ * Renders the events of a match to a console.
+ *
+ * <p>
+ * The renderer prints the details of every resolved round and announces the winner
+ * once the match is finished. Headless runs simply do not register it, which skips
+ * all string formatting without losing the events themselves.
+ * </p>
+ */
+public class ConsoleMatchRenderer implements MatchEventSink {
+
+    private final PrintStream out;
+    private final String playerOneName;
+    private final String playerTwoName;
+
+    /**
+     * Constructs a new {@code ConsoleMatchRenderer}.
+     *
+     * @param out the stream to render to
+     * @param playerOneName the name displayed for Player One
+     * @param playerTwoName the name displayed for Player Two
+     */
+    public ConsoleMatchRenderer(PrintStream out, String playerOneName, String playerTwoName) {
+        this.out = out;
+        this.playerOneName = playerOneName;
+        this.playerTwoName = playerTwoName;
+    }
+
+    /**
+     * Displays the details of the round that was just resolved.
+     */
+    @Override
+    public void onRoundResolved(MatchView match) {
+        out.printf(
+            """
+            Round Details:
+            %s chose: %s
+            %s chose: %s
+            %s%n
+            """,
+            playerOneName, match.getLastChoice(PlayerIndex.PLAYER_ONE),
+            playerTwoName, match.getLastChoice(PlayerIndex.PLAYER_TWO),
+            formatRoundResult(match.getLastResult())
+        );
+    }
+
+    /**
+     * Displays the winner and the final round.
+     */
+    @Override
+    public void onMatchFinished(MatchView match) {
+        match.getWinner().ifPresentOrElse(
+            winner -> out.printf("The winner is %s on round %d%n", nameOf(winner), match.getRoundCount()),
+            () -> out.printf("The match ended without a winner on round %d%n", match.getRoundCount())
+        );
+    }
+
+    /**
+     * Converts a player index to the corresponding player name.
+     *
+     * @param playerIndex the player index
+     * @return the name of the player
+     */
+    private String nameOf(PlayerIndex playerIndex) {
+        return switch (playerIndex) {
+            case PLAYER_ONE -> playerOneName;
+            case PLAYER_TWO -> playerTwoName;
+        };
+    }
+
+    /**
+     * Converts a {@link RoundResult} into a human-readable message.
+     *
+     * @param roundResult the result of the round
+     * @return a formatted string describing the round result
+     */
+    private String formatRoundResult(RoundResult roundResult) {
+        return switch (roundResult) {
+            case PLAYER_ONE_WINS -> "%s wins this round!".formatted(playerOneName);
+            case PLAYER_TWO_WINS -> "%s wins this round!".formatted(playerTwoName);
+            case DRAW -> "It's a draw!";
+        };
+    }
+}
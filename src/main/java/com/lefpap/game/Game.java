@@ -9,28 +9,61 @@ package com.lefpap.game;
  * Optional hooks are provided to allow additional behavior at specific points
  * during the game lifecycle.
  * </p>
+ *
+ * <p>
+ * A game can be stopped early, from within a hook or from another thread, through
+ * {@link #terminate()}. The loop then ends after the current iteration and
+ * {@link #onAfterLoop()} still runs, so no game ever needs to exit the JVM.
+ * </p>
  */
 public abstract class Game {
 
+    private volatile boolean terminated;
+
     /**
      * Starts and manages the game loop.
      *
      * <p>
      * This method initializes the game, executes any pre-loop logic,
      * and then enters the main game loop. The loop runs until {@link #isGameOver()}
-     * returns {@code true}. During each iteration, hooks for per-loop logic
-     * are executed before and after the main game logic.
+     * returns {@code true} or the game is {@link #terminate() terminated}. During each iteration, hooks for per-loop logic
+     * are executed before and after the main game logic. Once {@link #init()} has completed,
+     * {@link #onAfterLoop()} runs even if the loop fails, so resources set up in {@code init} are always released.
      * </p>
      */
     public void run() {
         init();
-        onBeforeLoop();
-        while (!isGameOver()) {
-            onStartOfEachLoop();
-            loop();
-            onEndOfEachLoop();
+        try {
+            onBeforeLoop();
+            while (!terminated && !isGameOver()) {
+                onStartOfEachLoop();
+                loop();
+                onEndOfEachLoop();
+            }
+        } finally {
+            onAfterLoop();
         }
-        onAfterLoop();
+    }
+
+    /**
+     * Requests the game loop to stop.
+     *
+     * <p>
+     * The current iteration is completed, after which the loop ends and
+     * {@link #onAfterLoop()} is called. Calling this method more than once has no further effect.
+     * </p>
+     */
+    public void terminate() {
+        terminated = true;
+    }
+
+    /**
+     * Checks whether the game has been requested to stop.
+     *
+     * @return {@code true} if {@link #terminate()} has been called, {@code false} otherwise
+     */
+    public boolean isTerminated() {
+        return terminated;
     }
 
     /**
@@ -111,7 +144,8 @@ public abstract class Game {
      *
      * <p>
      * Subclasses can override this method to define cleanup or other
-     * post-game logic that should run once after the game loop terminates.
+     * post-game logic that should run once after the game loop terminates,
+     * whether normally or by an exception.
      * By default, this method does nothing.
      * </p>
      */
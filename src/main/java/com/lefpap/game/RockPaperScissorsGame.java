@@ -1,15 +1,18 @@
 package com.lefpap.game;
 
-import com.lefpap.gamestate.RoundResult;
-import com.lefpap.player.PlayerChoice;
 import com.lefpap.player.PlayerIndex;
 import com.lefpap.gamestate.GameState;
-import com.lefpap.gamestate.Round;
 import com.lefpap.player.Player;
 import com.lefpap.player.strategy.InputChoiceStrategy;
 import com.lefpap.player.strategy.RandomChoiceStrategy;
+import com.lefpap.random.RandomStreams;
 
-import java.util.*;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.random.RandomGenerator;
 
 /**
  * Implements the game loop for a Rock-Paper-Scissors game.
@@ -18,41 +21,79 @@ import java.util.*;
  * This class provides the logic for initializing the game, handling
  * player interactions, and managing the game loop until a winner is determined.
  * </p>
+ *
+ * <p>
+ * Each game reads from and writes to its own streams, so many games can be hosted in the
+ * same JVM (see {@link com.lefpap.session.SessionHost}). Quitting ends the game through
+ * {@link #terminate()} rather than exiting the JVM.
+ * </p>
  */
 public class RockPaperScissorsGame extends Game {
 
     private static final String BORDER_LINE = "-".repeat(20);
-    private static final Random RND = new Random();
-    private static final Scanner SCANNER = new Scanner(System.in);
     private static final int SCORE_TO_WIN = 3;
 
+    private final Scanner scanner;
+    private final PrintStream out;
+    private final RandomGenerator rnd;
+
     private Player playerOne;
     private Player playerTwo;
     private GameState gameState;
+    private ExecutorService choiceExecutor;
+
+    /**
+     * Constructs a new {@code RockPaperScissorsGame} playing on the console.
+     */
+    public RockPaperScissorsGame() {
+        this(System.in, System.out, RandomStreams.create());
+    }
+
+    /**
+     * Constructs a new {@code RockPaperScissorsGame} playing on the specified streams.
+     *
+     * @param in the stream the human player's input is read from
+     * @param out the stream the game is rendered to
+     * @param rnd the random number generator of the computer player
+     */
+    public RockPaperScissorsGame(InputStream in, PrintStream out, RandomGenerator rnd) {
+        this.scanner = new Scanner(in);
+        this.out = out;
+        this.rnd = rnd;
+    }
 
     /**
      * Initializes the game by setting up players and the game state.
+     * Round details and the winner are rendered by a {@link ConsoleMatchRenderer}
+     * subscribed to the game state's events.
      */
     @Override
     public void init() {
-        playerOne = new Player("Human", new InputChoiceStrategy(SCANNER, "Human"));
-        playerTwo = new Player("Computer", new RandomChoiceStrategy(RND));
-        gameState = new GameState(SCORE_TO_WIN);
+        playerOne = new Player("Human", new InputChoiceStrategy(scanner, out, "Human"));
+        playerTwo = new Player("Computer", new RandomChoiceStrategy(rnd));
+        gameState = new GameState(SCORE_TO_WIN, true, new ConsoleMatchRenderer(out, playerOne.name(), playerTwo.name()));
+        choiceExecutor = Executors.newVirtualThreadPerTaskExecutor();
     }
 
     /**
      * Executes a single iteration of the game loop.
      *
      * <p>
-     * This method collects player choices, plays a round, and updates
-     * the game state accordingly.
+     * This method collects both players' choices concurrently, plays a round, updates
+     * the game state accordingly and lets both players observe the outcome.
      * </p>
      */
     @Override
     public void loop() {
-        PlayerChoice playerOneChoice = playerOne.makeChoice();
-        PlayerChoice playerTwoChoice = playerTwo.makeChoice();
-        gameState.playRound(playerOneChoice, playerTwoChoice);
+        gameState.playRound(playerOne, playerTwo, choiceExecutor);
+    }
+
+    /**
+     * Releases the threads used to collect the players' choices.
+     */
+    @Override
+    public void onAfterLoop() {
+        choiceExecutor.close();
     }
 
     /**
@@ -60,7 +101,7 @@ public class RockPaperScissorsGame extends Game {
      */
     @Override
     public void onBeforeLoop() {
-        System.out.println("""
+        out.println("""
             █▀█ █▀█ █▀▀ █▄▀
             █▀▄ █▄█ █▄▄ █░█
             
@@ -71,9 +112,9 @@ public class RockPaperScissorsGame extends Game {
             ▄█ █▄▄ █ ▄█ ▄█ █▄█ █▀▄ ▄█
             """);
 
-        System.out.println("Press any key to start...");
-        SCANNER.nextLine();
-        System.out.println(BORDER_LINE);
+        out.println("Press any key to start...");
+        scanner.nextLine();
+        out.println(BORDER_LINE);
     }
 
     /**
@@ -81,9 +122,9 @@ public class RockPaperScissorsGame extends Game {
      */
     @Override
     public void onStartOfEachLoop() {
-        System.out.printf("Round %d%n", gameState.getCurrentRound().map(Round::getIndex).orElse(0) + 1);
-        System.out.println();
-        System.out.printf(
+        out.printf("Round %d%n", gameState.getRoundCount() + 1);
+        out.println();
+        out.printf(
             """
             Scoreboard:
             %s: %d | %s: %d
@@ -93,87 +134,38 @@ public class RockPaperScissorsGame extends Game {
             playerTwo.name(),
             gameState.getPlayerScore(PlayerIndex.PLAYER_TWO)
         );
-        System.out.println();
+        out.println();
     }
 
     /**
-     * Displays the details of the current round and prompts the user to continue or quit.
+     * Prompts the user to continue or quit, unless the game has just been decided.
      */
     @Override
     public void onEndOfEachLoop() {
-        // Print round details
-        Round currentRound = gameState.getCurrentRound().orElseThrow();
-        System.out.printf(
-            """
-            Round Details:
-            %s chose: %s
-            %s chose: %s
-            %s%n
-            """,
-            playerOne.name(), currentRound.getPlayerChoice(PlayerIndex.PLAYER_ONE),
-            playerTwo.name(), currentRound.getPlayerChoice(PlayerIndex.PLAYER_TWO),
-            formatRoundResult(currentRound.getResult())
-        );
+        if (gameState.isOver()) {
+            return;
+        }
 
         // Print prompt to continue or exit
-        System.out.println();
-        System.out.print("Press any key to continue... (q)uit to exit       :");
-        String input = SCANNER.nextLine();
+        out.println();
+        out.print("Press any key to continue... (q)uit to exit       :");
+        String input = scanner.nextLine();
         if ("q".equalsIgnoreCase(input) || "quit".equalsIgnoreCase(input)) {
-            System.out.println("Quiting game...");
-            System.exit(0);
+            out.println("Quiting game...");
+            terminate();
+            return;
         }
 
-        System.out.println(BORDER_LINE);
-    }
-
-    /**
-     * Displays the winner and the final round when the game ends.
-     */
-    @Override
-    public void onAfterLoop() {
-        Player winner = gameState.getWinner()
-            .map(this::convertIndexToPlayer)
-            .orElseThrow();
-
-        Round finalRound = gameState.getCurrentRound().orElseThrow();
-        System.out.printf("The winner is %s on round %d%n", winner.name(), finalRound.getIndex());
+        out.println(BORDER_LINE);
     }
 
     /**
-     * Checks if the game is over by determining if a winner exists.
+     * Checks if the game is over, as decided by the end policy of the match.
      *
-     * @return {@code true} if a winner has been determined, {@code false} otherwise
+     * @return {@code true} if the match is over, {@code false} otherwise
      */
     @Override
     public boolean isGameOver() {
-        return gameState.getWinner().isPresent();
-    }
-
-    /**
-     * Converts a player index to the corresponding player.
-     *
-     * @param playerIndex the player index
-     * @return the {@link Player} corresponding to the index
-     */
-    private Player convertIndexToPlayer(PlayerIndex playerIndex) {
-        return switch (playerIndex) {
-            case PLAYER_ONE -> playerOne;
-            case PLAYER_TWO -> playerTwo;
-        };
-    }
-
-    /**
-     * Converts a {@link RoundResult} into a human-readable message.
-     *
-     * @param roundResult the result of the round
-     * @return a formatted string describing the round result
-     */
-    private String formatRoundResult(RoundResult roundResult) {
-        return switch (roundResult) {
-            case PLAYER_ONE_WINS -> "%s wins this round!".formatted(playerOne.name());
-            case PLAYER_TWO_WINS -> "%s wins this round!".formatted(playerTwo.name());
-            case DRAW -> "It's a draw!";
-        };
+        return gameState.isOver();
     }
 }
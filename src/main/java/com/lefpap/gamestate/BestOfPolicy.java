@@ -0,0 +1,64 @@
+package com.lefpap.gamestate;
+
+import java.util.Optional;
+
+/**
+ * A series of a fixed number of rounds, ended early once its outcome can no longer change.
+ */
+class BestOfPolicy implements MatchEndPolicy {
+
+    private final int rounds;
+
+    BestOfPolicy(int rounds) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Number of rounds must be positive: %d".formatted(rounds));
+        }
+        this.rounds = rounds;
+    }
+
+    @Override
+    public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount) {
+        return evaluate(playerOneScore, playerTwoScore, roundCount, 1);
+    }
+
+    @Override
+    public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount, int maxSwing) {
+        int remaining = rounds - roundCount;
+        // The most the trailing player can still make up
+        long reachable = (long) Math.max(0, remaining) * maxSwing;
+        long lead = (long) playerOneScore - playerTwoScore;
+        if (lead > reachable) {
+            return MatchStatus.PLAYER_ONE_WINS;
+        }
+        if (-lead > reachable) {
+            return MatchStatus.PLAYER_TWO_WINS;
+        }
+        return remaining <= 0 ? MatchStatus.UNDECIDED : MatchStatus.IN_PROGRESS;
+    }
+
+    @Override
+    public int getScoreToWin() {
+        return rounds / 2 + 1;
+    }
+
+    @Override
+    public int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount) {
+        int remaining = rounds - roundCount;
+        int lead = Math.abs(playerOneScore - playerTwoScore);
+        if (lead > remaining || remaining <= 0) {
+            return 0;
+        }
+        // The leader must win enough rounds for the lead to exceed the rounds left after them
+        return Math.min(remaining, (remaining - lead) / 2 + 1);
+    }
+
+    @Override
+    public Optional<Spec> getSpec() {
+        return Optional.of(new Spec(Kind.BEST_OF, rounds, 0));
+    }
+
+    @Override
+    public String toString() {
+        return "best of %d".formatted(rounds);
+    }
+}
@@ -0,0 +1,49 @@
+package com.lefpap.gamestate;
+
+import java.util.Optional;
+
+/**
+ * The first player to reach a fixed score wins.
+ */
+class FirstToPolicy implements MatchEndPolicy {
+
+    private final int scoreToWin;
+
+    FirstToPolicy(int scoreToWin) {
+        if (scoreToWin <= 0) {
+            throw new IllegalArgumentException("Score to win must be positive: %d".formatted(scoreToWin));
+        }
+        this.scoreToWin = scoreToWin;
+    }
+
+    @Override
+    public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount) {
+        if (playerOneScore >= scoreToWin) {
+            return MatchStatus.PLAYER_ONE_WINS;
+        }
+        if (playerTwoScore >= scoreToWin) {
+            return MatchStatus.PLAYER_TWO_WINS;
+        }
+        return MatchStatus.IN_PROGRESS;
+    }
+
+    @Override
+    public int getScoreToWin() {
+        return scoreToWin;
+    }
+
+    @Override
+    public int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount) {
+        return Math.max(0, scoreToWin - Math.max(playerOneScore, playerTwoScore));
+    }
+
+    @Override
+    public Optional<Spec> getSpec() {
+        return Optional.of(new Spec(Kind.FIRST_TO, scoreToWin, 0));
+    }
+
+    @Override
+    public String toString() {
+        return "first to %d".formatted(scoreToWin);
+    }
+}
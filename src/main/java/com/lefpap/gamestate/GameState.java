@@ -1,12 +1,17 @@
 package com.lefpap.gamestate;
 
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.player.Player;
 import com.lefpap.player.PlayerChoice;
 import com.lefpap.player.PlayerIndex;
 
-import java.util.ArrayDeque;
-import java.util.Arrays;
-import java.util.Deque;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Manages the state of the game, including rounds, scores, and the winner.
@@ -14,12 +19,63 @@ import java.util.Optional;
  * <p>
  * The {@code GameState} class tracks the progress of the game by maintaining
  * a history of rounds, a scoreboard, and determining when a player wins the game.
+ * The history is kept in a compact {@link RoundHistory}, from which {@link Round} objects
+ * are materialized on demand.
+ * </p>
+ *
+ * <p>
+ * When the match ends is decided by a {@link MatchEndPolicy}, first-to-N by default.
+ * The policy is evaluated once after every round until the match is over, so checking
+ * for the winner is a constant-time field read. Headless simulations can additionally disable the
+ * round history, in which case {@link #playRound(PlayerChoice, PlayerChoice)} allocates
+ * nothing at all.
+ * </p>
+ *
+ * <p>
+ * The {@code GameState} is also the {@link MatchView} handed to the players' strategies
+ * by {@link #playRound(Player, Player)}, so exposing the match to them costs no allocation.
+ * The same view is passed to the {@link MatchEventSink} the game state publishes its
+ * events to.
+ * </p>
+ *
+ * <p>
+ * Rounds are resolved through the {@link RuleSet} of the game, which defaults to the
+ * {@link RuleSet#classic() classic} rules. Variants with other rule sets are played by choice
+ * index through {@link #playRound(int, int)}; the {@link PlayerChoice} based methods are only
+ * available for the classic rules.
+ * </p>
+ *
+ * <p>
+ * Rounds are scored through a {@link ScoringRule}, by default one point per win. The points of both
+ * players are read from its precomputed table, so variant scoring costs the same per round as the
+ * standard one. Scores are exact fixed-point {@link #getPlayerPoints(PlayerIndex) points}; the
+ * {@link MatchEndPolicy} decides on whole points.
+ * </p>
+ *
+ * <p>
+ * A match in progress can be {@link #snapshot() checkpointed} into a compact byte array and
+ * {@link #restore(ByteBuffer, RuleSet, MatchEndPolicy, MatchEventSink) restored} later, possibly
+ * in another process, to continue exactly where it left off.
  * </p>
  */
-public class GameState {
-    private final int scoreToWin;
+public class GameState implements MatchView {
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+    private static final int NO_CHOICE = -1;
+
+    private final RuleSet rules;
+    private final ScoringRule scoring;
+    private final long[] scoringTable;
+    private final int choiceCount;
+    private final MatchEndPolicy endPolicy;
     private final Scoreboard scoreboard;
-    private final Deque<Round> rounds;
+    private final RoundHistory rounds;
+    private final boolean recordRounds;
+    private final MatchEventSink eventSink;
+    private int roundCount;
+    private int lastPlayerOneChoice = NO_CHOICE;
+    private int lastPlayerTwoChoice = NO_CHOICE;
+    private RoundResult lastResult;
+    private MatchStatus status = MatchStatus.IN_PROGRESS;
 
     /**
      * Constructs a new {@code GameState} with the specified winning score.
@@ -27,59 +83,559 @@ public class GameState {
      * @param scoreToWin the score a player must reach to win the game
      */
     public GameState(int scoreToWin) {
-        this.scoreToWin = scoreToWin;
+        this(scoreToWin, true);
+    }
 
-        // initialize game state
-        this.scoreboard = new Scoreboard();
-        this.rounds = new ArrayDeque<>();
+    /**
+     * Constructs a new {@code GameState} with the specified winning score,
+     * optionally without keeping the history of rounds.
+     *
+     * <p>
+     * When {@code recordRounds} is {@code false}, no rounds are recorded
+     * and {@link #getCurrentRound()} always returns an empty {@link Optional}.
+     * Scores, the round count and the winner are still tracked.
+     * </p>
+     *
+     * @param scoreToWin the score a player must reach to win the game
+     * @param recordRounds whether to keep the history of played rounds
+     */
+    public GameState(int scoreToWin, boolean recordRounds) {
+        this(scoreToWin, recordRounds, MatchEventSink.NONE);
+    }
+
+    /**
+     * Constructs a new {@code GameState} that publishes its events to the specified sink.
+     *
+     * @param scoreToWin the score a player must reach to win the game
+     * @param recordRounds whether to keep the history of played rounds
+     * @param eventSink the sink receiving the match events
+     */
+    public GameState(int scoreToWin, boolean recordRounds, MatchEventSink eventSink) {
+        this(RuleSet.classic(), scoreToWin, recordRounds, eventSink);
+    }
+
+    /**
+     * Constructs a new {@code GameState} of a game variant played with the specified rule set.
+     *
+     * @param rules the rule set resolving the rounds
+     * @param scoreToWin the score a player must reach to win the game
+     * @param recordRounds whether to keep the history of played rounds
+     * @param eventSink the sink receiving the match events
+     */
+    public GameState(RuleSet rules, int scoreToWin, boolean recordRounds, MatchEventSink eventSink) {
+        this(rules, MatchEndPolicy.firstTo(scoreToWin), recordRounds, eventSink);
+    }
+
+    /**
+     * Constructs a new {@code GameState} whose end is decided by the specified policy.
+     *
+     * @param rules the rule set resolving the rounds
+     * @param endPolicy the policy deciding when the match ends and who wins it
+     * @param recordRounds whether to keep the history of played rounds
+     * @param eventSink the sink receiving the match events
+     */
+    public GameState(RuleSet rules, MatchEndPolicy endPolicy, boolean recordRounds, MatchEventSink eventSink) {
+        this(ScoringRule.standard(rules), endPolicy, recordRounds, eventSink);
     }
 
     /**
-     * Retrieves the winner of the game, if one exists.
+     * Constructs a new {@code GameState} of a game variant scored with the specified scoring rule.
      *
-     * @return an {@link Optional} containing the {@link PlayerIndex} of the winner,
-     * or an empty {@link Optional} if no winner has been determined
+     * @param scoring the scoring rule, which also determines the rule set resolving the rounds
+     * @param endPolicy the policy deciding when the match ends and who wins it
+     * @param recordRounds whether to keep the history of played rounds
+     * @param eventSink the sink receiving the match events
      */
+    public GameState(ScoringRule scoring, MatchEndPolicy endPolicy, boolean recordRounds, MatchEventSink eventSink) {
+        this.rules = scoring.getRuleSet();
+        this.scoring = scoring;
+        this.scoringTable = scoring.table();
+        this.choiceCount = rules.size();
+        this.endPolicy = endPolicy;
+        this.recordRounds = recordRounds;
+        this.eventSink = eventSink;
+
+        // initialize game state
+        this.scoreboard = new Scoreboard();
+        this.rounds = new RoundHistory(rules);
+    }
+
+    @Override
     public Optional<PlayerIndex> getWinner() {
-        return Arrays.stream(PlayerIndex.values())
-            .filter(playerIndex -> scoreboard.getPlayerScore(playerIndex) == scoreToWin)
-            .findFirst();
+        return status.winner();
+    }
+
+    @Override
+    public boolean hasWinner() {
+        return status == MatchStatus.PLAYER_ONE_WINS || status == MatchStatus.PLAYER_TWO_WINS;
+    }
+
+    @Override
+    public MatchStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public MatchEndPolicy getEndPolicy() {
+        return endPolicy;
     }
 
     /**
      * Retrieves the current (most recent) round of the game.
      *
      * @return an {@link Optional} containing the current {@link Round},
-     * or an empty {@link Optional} if no rounds have been played
+     * or an empty {@link Optional} if no rounds have been played or rounds are not recorded
      */
     public Optional<Round> getCurrentRound() {
-        return Optional.ofNullable(rounds.peekLast());
+        return rounds.last();
     }
 
     /**
-     * Plays a round with the specified choices for Player One and Player Two.
+     * Retrieves a previously played round.
+     *
+     * @param index the index of the round, starting from 1
+     * @return the {@link Round} with the specified index
+     * @throws IndexOutOfBoundsException if no round with the specified index has been recorded
+     */
+    public Round getRound(int index) {
+        return rounds.get(index);
+    }
+
+    @Override
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    @Override
+    public int getScoreToWin() {
+        return endPolicy.getScoreToWin();
+    }
+
+    @Override
+    public RuleSet getRuleSet() {
+        return rules;
+    }
+
+    @Override
+    public ScoringRule getScoringRule() {
+        return scoring;
+    }
+
+    @Override
+    public PlayerChoice getLastChoice(PlayerIndex playerIndex) {
+        requireClassicRules();
+        int choice = getLastChoiceIndex(playerIndex);
+        return choice == NO_CHOICE ? null : CHOICES[choice];
+    }
+
+    @Override
+    public int getLastChoiceIndex(PlayerIndex playerIndex) {
+        return switch (playerIndex) {
+            case PLAYER_ONE -> lastPlayerOneChoice;
+            case PLAYER_TWO -> lastPlayerTwoChoice;
+        };
+    }
+
+    @Override
+    public RoundResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Plays a round between the specified players.
+     *
+     * <p>
+     * Both players make their choice with this game state as their {@link MatchView},
+     * the round is played through {@link #playRound(PlayerChoice, PlayerChoice)},
+     * and both players are then notified about the resolved round.
+     * </p>
+     *
+     * @param playerOne the player playing as Player One
+     * @param playerTwo the player playing as Player Two
+     * @return the result of the round
+     * @throws IllegalStateException if the game is not played with the {@link RuleSet#classic() classic} rule set
+     */
+    public RoundResult playRound(Player playerOne, Player playerTwo) {
+        requireClassicRules();
+        PlayerChoice playerOneChoice = playerOne.makeChoice(this, PlayerIndex.PLAYER_ONE);
+        PlayerChoice playerTwoChoice = playerTwo.makeChoice(this, PlayerIndex.PLAYER_TWO);
+        RoundResult result = playRound(playerOneChoice, playerTwoChoice);
+        playerOne.onRoundResolved(this, PlayerIndex.PLAYER_ONE);
+        playerTwo.onRoundResolved(this, PlayerIndex.PLAYER_TWO);
+        return result;
+    }
+
+    /**
+     * Plays a round between the specified players, collecting both choices concurrently.
      *
      * <p>
-     * This method creates a new {@link Round}, and updates the scoreboard based on the
-     * result of the round.
+     * Both players make their choice at the same time on the specified executor, so a slow player
+     * does not add its latency to that of the other one. Once both choices are in, the round is played
+     * and the players are notified like in {@link #playRound(Player, Player)}. Combine with a
+     * {@link com.lefpap.player.strategy.DeadlineChoiceStrategy} to bound the time a round can take.
      * </p>
      *
+     * @param playerOne the player playing as Player One
+     * @param playerTwo the player playing as Player Two
+     * @param executor the executor the choices are made on
+     * @return the result of the round
+     * @throws IllegalStateException if the game is not played with the {@link RuleSet#classic() classic} rule set
+     */
+    public RoundResult playRound(Player playerOne, Player playerTwo, Executor executor) {
+        requireClassicRules();
+        CompletableFuture<PlayerChoice> playerOneChoice =
+            CompletableFuture.supplyAsync(() -> playerOne.makeChoice(this, PlayerIndex.PLAYER_ONE), executor);
+        CompletableFuture<PlayerChoice> playerTwoChoice =
+            CompletableFuture.supplyAsync(() -> playerTwo.makeChoice(this, PlayerIndex.PLAYER_TWO), executor);
+
+        RoundResult result;
+        try {
+            result = playRound(playerOneChoice.join(), playerTwoChoice.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        playerOne.onRoundResolved(this, PlayerIndex.PLAYER_ONE);
+        playerTwo.onRoundResolved(this, PlayerIndex.PLAYER_TWO);
+        return result;
+    }
+
+    /**
+     * Plays a round with the specified choices for Player One and Player Two.
+     *
      * @param playerOneChoice the choice made by Player One
      * @param playerTwoChoice the choice made by Player Two
+     * @return the result of the round
+     * @throws IllegalStateException if the game is not played with the {@link RuleSet#classic() classic} rule set
+     * @see #playRound(int, int)
      */
-    public void playRound(PlayerChoice playerOneChoice, PlayerChoice playerTwoChoice) {
-        Round round = new Round(rounds.size() + 1, playerOneChoice, playerTwoChoice);
-        scoreboard.updateScores(round.getResult());
-        rounds.add(round);
+    public RoundResult playRound(PlayerChoice playerOneChoice, PlayerChoice playerTwoChoice) {
+        requireClassicRules();
+        return playRound(playerOneChoice.ordinal(), playerTwoChoice.ordinal());
     }
 
     /**
-     * Retrieves the score of the specified player.
+     * Plays a round with the specified choice indexes for Player One and Player Two.
      *
-     * @param playerIndex the index of the player whose score is to be retrieved
-     * @return the score of the specified player
+     * <p>
+     * This method resolves the result of the round through the rule set, updates the scoreboard and
+     * the match status, and appends the round to the round history if it is kept.
+     * The match events are published to the event sink along the way.
+     * </p>
+     *
+     * @param playerOneChoice the index of the choice made by Player One
+     * @param playerTwoChoice the index of the choice made by Player Two
+     * @return the result of the round
+     * @throws IndexOutOfBoundsException if either choice is not a valid index of the rule set
      */
+    public RoundResult playRound(int playerOneChoice, int playerTwoChoice) {
+        RoundResult result = rules.resolve(playerOneChoice, playerTwoChoice);
+        if (roundCount == 0) {
+            eventSink.onMatchStarted(this);
+        }
+
+        roundCount++;
+        lastPlayerOneChoice = playerOneChoice;
+        lastPlayerTwoChoice = playerTwoChoice;
+        lastResult = result;
+        scoreboard.addPoints(
+            scoringTable[playerOneChoice * choiceCount + playerTwoChoice],
+            scoringTable[playerTwoChoice * choiceCount + playerOneChoice]
+        );
+        if (recordRounds) {
+            rounds.add(playerOneChoice, playerTwoChoice);
+        }
+
+        // Once the match is over its outcome is final, even if more rounds are played
+        boolean decided = false;
+        if (status == MatchStatus.IN_PROGRESS) {
+            status = endPolicy.evaluate(
+                scoreboard.getPlayerScore(PlayerIndex.PLAYER_ONE),
+                scoreboard.getPlayerScore(PlayerIndex.PLAYER_TWO),
+                roundCount,
+                scoring.maxSwing()
+            );
+            decided = status.isOver();
+        }
+
+        eventSink.onRoundResolved(this);
+        if (decided) {
+            eventSink.onMatchFinished(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Plays a block of rounds from two buffers of choice indexes, until the buffers are exhausted
+     * or the match is over.
+     *
+     * <p>
+     * The match end policy is only evaluated once the {@link MatchEndPolicy#minRoundsRemaining(int, int, int)
+     * minimum number of rounds} needed to end the match has been played, so the inner loop is a plain scan
+     * over both buffers. The match still stops exactly at the round that ends it; the remaining choices are
+     * left unplayed. When the game state publishes events, the rounds are played one by one through
+     * {@link #playRound(int, int)} instead.
+     * </p>
+     *
+     * @param playerOneChoices the choice indexes of Player One
+     * @param playerTwoChoices the choice indexes of Player Two
+     * @param offset the index of the first round in both buffers
+     * @param length the number of rounds available in both buffers
+     * @return the number of rounds played, {@code 0} if the match was already over
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of either buffer,
+     *                                   or a choice is not a valid index of the rule set
+     */
+    public int playRounds(byte[] playerOneChoices, byte[] playerTwoChoices, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, playerOneChoices.length);
+        Objects.checkFromIndexSize(offset, length, playerTwoChoices.length);
+
+        int played = 0;
+        if (eventSink != MatchEventSink.NONE) {
+            while (played < length && !status.isOver()) {
+                playRound(playerOneChoices[offset + played] & 0xFF, playerTwoChoices[offset + played] & 0xFF);
+                played++;
+            }
+            return played;
+        }
+
+        while (played < length && !status.isOver()) {
+            int block = Math.min(length - played, Math.max(1, minRoundsRemaining()));
+
+            for (int i = offset + played, end = i + block; i < end; i++) {
+                int playerOneChoice = Objects.checkIndex(playerOneChoices[i] & 0xFF, choiceCount);
+                int playerTwoChoice = Objects.checkIndex(playerTwoChoices[i] & 0xFF, choiceCount);
+                scoreboard.addPoints(
+                    scoringTable[playerOneChoice * choiceCount + playerTwoChoice],
+                    scoringTable[playerTwoChoice * choiceCount + playerOneChoice]
+                );
+                if (recordRounds) {
+                    rounds.add(playerOneChoice, playerTwoChoice);
+                }
+                roundCount++;
+            }
+            played += block;
+
+            status = endPolicy.evaluate(
+                scoreboard.getPlayerScore(PlayerIndex.PLAYER_ONE),
+                scoreboard.getPlayerScore(PlayerIndex.PLAYER_TWO),
+                roundCount,
+                scoring.maxSwing()
+            );
+        }
+
+        if (played > 0) {
+            int last = offset + played - 1;
+            lastPlayerOneChoice = playerOneChoices[last] & 0xFF;
+            lastPlayerTwoChoice = playerTwoChoices[last] & 0xFF;
+            lastResult = rules.resolve(lastPlayerOneChoice, lastPlayerTwoChoice);
+        }
+        return played;
+    }
+
+    @Override
     public int getPlayerScore(PlayerIndex playerIndex) {
         return scoreboard.getPlayerScore(playerIndex);
     }
+
+    @Override
+    public long getPlayerPoints(PlayerIndex playerIndex) {
+        return scoreboard.getPlayerPoints(playerIndex);
+    }
+
+    /**
+     * Gets a lower bound on the number of rounds still needed to end the match, which lets callers
+     * play that many rounds without checking for the end of the match in between.
+     *
+     * <p>
+     * This is the {@link MatchEndPolicy#minRoundsRemaining(int, int, int) bound} of the end policy,
+     * scaled down for scoring rules under which a round can move a whole-point score or the lead
+     * between them by more than one point, as happens with fractional and negative points.
+     * </p>
+     *
+     * @return the minimum number of rounds before the match can end, {@code 0} if it is over
+     */
+    public int minRoundsRemaining() {
+        if (status.isOver()) {
+            return 0;
+        }
+        int rounds = endPolicy.minRoundsRemaining(
+            scoreboard.getPlayerScore(PlayerIndex.PLAYER_ONE),
+            scoreboard.getPlayerScore(PlayerIndex.PLAYER_TWO),
+            roundCount
+        );
+        return Math.ceilDiv(rounds, scoring.maxSwing());
+    }
+
+    /**
+     * Gets the size of a snapshot of the current state, in bytes.
+     *
+     * @return the number of bytes {@link #snapshot(ByteBuffer)} writes
+     */
+    public int snapshotSize() {
+        return SnapshotFormat.HEADER_SIZE + rounds.size() * 2;
+    }
+
+    /**
+     * Takes a snapshot of the current state.
+     *
+     * @return a new byte array holding the snapshot
+     * @see #snapshot(ByteBuffer)
+     */
+    public byte[] snapshot() {
+        byte[] snapshot = new byte[snapshotSize()];
+        snapshot(ByteBuffer.wrap(snapshot));
+        return snapshot;
+    }
+
+    /**
+     * Writes a snapshot of the current state to a buffer.
+     *
+     * <p>
+     * The snapshot holds the exact points, the round count, the last choices, the match status and the
+     * recorded round history, in the layout described by {@link SnapshotFormat}. The scoring rule, end policy
+     * and event sink are not included. Like all other methods of this class, this method must not be
+     * called concurrently with a round being played.
+     * </p>
+     *
+     * @param buffer the buffer to write to, from its position, which is advanced past the snapshot
+     * @throws java.nio.BufferOverflowException if fewer than {@link #snapshotSize()} bytes remain in the buffer
+     */
+    public void snapshot(ByteBuffer buffer) {
+        ByteBuffer out = buffer.slice(buffer.position(), snapshotSize()).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(SnapshotFormat.MAGIC_OFFSET, SnapshotFormat.MAGIC)
+            .put(SnapshotFormat.VERSION_OFFSET, SnapshotFormat.VERSION)
+            .put(SnapshotFormat.FLAGS_OFFSET, recordRounds ? SnapshotFormat.RECORD_ROUNDS : 0)
+            .put(SnapshotFormat.STATUS_OFFSET, (byte) status.ordinal())
+            .putInt(SnapshotFormat.CHOICES_OFFSET, rules.size())
+            .putInt(SnapshotFormat.SCORE_TO_WIN_OFFSET, getScoreToWin())
+            .putLong(SnapshotFormat.PLAYER_ONE_POINTS_OFFSET, getPlayerPoints(PlayerIndex.PLAYER_ONE))
+            .putLong(SnapshotFormat.PLAYER_TWO_POINTS_OFFSET, getPlayerPoints(PlayerIndex.PLAYER_TWO))
+            .putInt(SnapshotFormat.ROUND_COUNT_OFFSET, roundCount)
+            .putShort(SnapshotFormat.PLAYER_ONE_LAST_CHOICE_OFFSET, (short) lastPlayerOneChoice)
+            .putShort(SnapshotFormat.PLAYER_TWO_LAST_CHOICE_OFFSET, (short) lastPlayerTwoChoice)
+            .putInt(SnapshotFormat.RECORDED_ROUNDS_OFFSET, rounds.size());
+        rounds.writeTo(out.position(SnapshotFormat.HEADER_SIZE));
+        buffer.position(buffer.position() + out.capacity());
+    }
+
+    /**
+     * Restores a match from a snapshot taken by {@link #snapshot()}.
+     *
+     * @param snapshot the snapshot
+     * @param rules the rule set of the match
+     * @param endPolicy the end policy of the match
+     * @param eventSink the sink receiving the events of the restored match
+     * @return a new {@code GameState} in the state captured by the snapshot
+     * @throws IllegalArgumentException if the snapshot is malformed, or does not match the rule set or end policy
+     * @see #restore(ByteBuffer, ScoringRule, MatchEndPolicy, MatchEventSink)
+     */
+    public static GameState restore(byte[] snapshot, RuleSet rules, MatchEndPolicy endPolicy, MatchEventSink eventSink) {
+        return restore(ByteBuffer.wrap(snapshot), ScoringRule.standard(rules), endPolicy, eventSink);
+    }
+
+    /**
+     * Restores a match played with the {@link ScoringRule#standard(RuleSet) standard} scoring from a snapshot
+     * written by {@link #snapshot(ByteBuffer)}.
+     *
+     * @param buffer the buffer to read from, from its position, which is advanced past the snapshot
+     * @param rules the rule set of the match
+     * @param endPolicy the end policy of the match
+     * @param eventSink the sink receiving the events of the restored match
+     * @return a new {@code GameState} in the state captured by the snapshot
+     * @throws IllegalArgumentException if the snapshot is malformed, or does not match the rule set or end policy
+     * @see #restore(ByteBuffer, ScoringRule, MatchEndPolicy, MatchEventSink)
+     */
+    public static GameState restore(ByteBuffer buffer, RuleSet rules, MatchEndPolicy endPolicy, MatchEventSink eventSink) {
+        return restore(buffer, ScoringRule.standard(rules), endPolicy, eventSink);
+    }
+
+    /**
+     * Restores a match from a snapshot written by {@link #snapshot(ByteBuffer)}.
+     *
+     * <p>
+     * The scoring rule and end policy must be those the match was played with; the number of choices and the
+     * score to win stored in the snapshot are checked against them. The restored match publishes no
+     * {@link MatchEventSink#onMatchStarted(MatchView) match started} event if rounds had already been played.
+     * </p>
+     *
+     * @param buffer the buffer to read from, from its position, which is advanced past the snapshot
+     * @param scoring the scoring rule of the match
+     * @param endPolicy the end policy of the match
+     * @param eventSink the sink receiving the events of the restored match
+     * @return a new {@code GameState} in the state captured by the snapshot
+     * @throws IllegalArgumentException if the snapshot is malformed, or does not match the rule set or end policy
+     */
+    public static GameState restore(
+        ByteBuffer buffer,
+        ScoringRule scoring,
+        MatchEndPolicy endPolicy,
+        MatchEventSink eventSink
+    ) {
+        RuleSet rules = scoring.getRuleSet();
+        if (buffer.remaining() < SnapshotFormat.HEADER_SIZE) {
+            throw new IllegalArgumentException("Truncated snapshot: %d bytes".formatted(buffer.remaining()));
+        }
+
+        ByteBuffer in = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (in.getInt(SnapshotFormat.MAGIC_OFFSET) != SnapshotFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a game state snapshot");
+        }
+        if (in.get(SnapshotFormat.VERSION_OFFSET) != SnapshotFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: %d"
+                .formatted(in.get(SnapshotFormat.VERSION_OFFSET)));
+        }
+        if (in.getInt(SnapshotFormat.CHOICES_OFFSET) != rules.size()) {
+            throw new IllegalArgumentException("Snapshot was taken with %d choices, not %d"
+                .formatted(in.getInt(SnapshotFormat.CHOICES_OFFSET), rules.size()));
+        }
+        if (in.getInt(SnapshotFormat.SCORE_TO_WIN_OFFSET) != endPolicy.getScoreToWin()) {
+            throw new IllegalArgumentException("Snapshot was taken with a score to win of %d, not %d"
+                .formatted(in.getInt(SnapshotFormat.SCORE_TO_WIN_OFFSET), endPolicy.getScoreToWin()));
+        }
+
+        int statusOrdinal = in.get(SnapshotFormat.STATUS_OFFSET);
+        long playerOnePoints = in.getLong(SnapshotFormat.PLAYER_ONE_POINTS_OFFSET);
+        long playerTwoPoints = in.getLong(SnapshotFormat.PLAYER_TWO_POINTS_OFFSET);
+        int roundCount = in.getInt(SnapshotFormat.ROUND_COUNT_OFFSET);
+        int playerOneChoice = in.getShort(SnapshotFormat.PLAYER_ONE_LAST_CHOICE_OFFSET);
+        int playerTwoChoice = in.getShort(SnapshotFormat.PLAYER_TWO_LAST_CHOICE_OFFSET);
+        int recordedRounds = in.getInt(SnapshotFormat.RECORDED_ROUNDS_OFFSET);
+
+        if (statusOrdinal < 0 || statusOrdinal >= MatchStatus.values().length
+            || roundCount < 0 || recordedRounds < 0 || recordedRounds > roundCount
+            || (roundCount == 0) != (playerOneChoice == NO_CHOICE)
+            || (roundCount == 0) != (playerTwoChoice == NO_CHOICE)
+            || playerOneChoice < NO_CHOICE || playerOneChoice >= rules.size()
+            || playerTwoChoice < NO_CHOICE || playerTwoChoice >= rules.size()) {
+            throw new IllegalArgumentException("Corrupt snapshot");
+        }
+        if (in.remaining() - SnapshotFormat.HEADER_SIZE < 2L * recordedRounds) {
+            throw new IllegalArgumentException("Truncated snapshot: %d of %d rounds"
+                .formatted((in.remaining() - SnapshotFormat.HEADER_SIZE) / 2, recordedRounds));
+        }
+
+        boolean recordRounds = (in.get(SnapshotFormat.FLAGS_OFFSET) & SnapshotFormat.RECORD_ROUNDS) != 0;
+        GameState gameState = new GameState(scoring, endPolicy, recordRounds, eventSink);
+        gameState.scoreboard.setPoints(playerOnePoints, playerTwoPoints);
+        gameState.rounds.readFrom(in.position(SnapshotFormat.HEADER_SIZE), recordedRounds);
+        gameState.roundCount = roundCount;
+        gameState.status = MatchStatus.values()[statusOrdinal];
+        if (roundCount > 0) {
+            gameState.lastPlayerOneChoice = playerOneChoice;
+            gameState.lastPlayerTwoChoice = playerTwoChoice;
+            gameState.lastResult = rules.resolve(playerOneChoice, playerTwoChoice);
+        }
+
+        buffer.position(buffer.position() + in.position());
+        return gameState;
+    }
+
+    private void requireClassicRules() {
+        if (!rules.isClassic()) {
+            throw new IllegalStateException("Game is not played with PlayerChoice values: %s".formatted(rules));
+        }
+    }
 }
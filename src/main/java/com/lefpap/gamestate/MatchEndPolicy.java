@@ -0,0 +1,169 @@
+package com.lefpap.gamestate;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decides when a match ends and who wins it.
+ *
+ * <p>
+ * A {@link GameState} evaluates its policy once after every round, from the current scores
+ * and round count only, so every policy decides in constant time. Policies are stateless
+ * and can be shared between any number of matches.
+ * </p>
+ */
+public interface MatchEndPolicy {
+
+    /**
+     * Evaluates the status of a match.
+     *
+     * @param playerOneScore the score of Player One
+     * @param playerTwoScore the score of Player Two
+     * @param roundCount the number of rounds played, including draws
+     * @return the status of the match
+     */
+    MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount);
+
+    /**
+     * Evaluates the status of a match in which a single round can change the lead by up to
+     * {@code maxSwing} whole points, as under {@link ScoringRule weighted scoring}. Policies that end
+     * a match early because the trailing player can no longer catch up must account for the swing;
+     * by default, it is ignored.
+     *
+     * @param playerOneScore the score of Player One
+     * @param playerTwoScore the score of Player Two
+     * @param roundCount the number of rounds played, including draws
+     * @param maxSwing the most whole points by which one round can change the lead, at least {@code 1}
+     * @return the status of the match
+     */
+    default MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount, int maxSwing) {
+        return evaluate(playerOneScore, playerTwoScore, roundCount);
+    }
+
+    /**
+     * Gets the lowest score with which a player can win a match under this policy.
+     *
+     * @return the winning score
+     */
+    int getScoreToWin();
+
+    /**
+     * Gets a lower bound on the number of rounds still needed to end a match with the specified state,
+     * which lets callers play that many rounds without evaluating the policy in between.
+     *
+     * @param playerOneScore the score of Player One
+     * @param playerTwoScore the score of Player Two
+     * @param roundCount the number of rounds played, including draws
+     * @return the minimum number of rounds before the match can end, {@code 0} if it is over
+     */
+    int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount);
+
+    /**
+     * Describes this policy by its kind and parameters, so that it can be recorded and created again
+     * with {@link Spec#toPolicy()}. Only the built-in policies, optionally with a
+     * {@link #withRoundCap(int) round cap}, have a description.
+     *
+     * @return an {@link Optional} containing the description of this policy,
+     * or an empty {@link Optional} for custom policies
+     */
+    default Optional<Spec> getSpec() {
+        return Optional.empty();
+    }
+
+    /**
+     * Creates a policy under which the first player to reach the specified score wins.
+     *
+     * @param scoreToWin the winning score
+     * @return the first-to policy
+     * @throws IllegalArgumentException if {@code scoreToWin} is not positive
+     */
+    static MatchEndPolicy firstTo(int scoreToWin) {
+        return new FirstToPolicy(scoreToWin);
+    }
+
+    /**
+     * Creates a policy for a series of exactly {@code rounds} rounds, draws included, won by the player
+     * with more wins. The match ends early as soon as the trailing player can no longer catch up within
+     * the remaining rounds. A series that ends with tied scores is {@link MatchStatus#UNDECIDED undecided}.
+     *
+     * @param rounds the length of the series
+     * @return the best-of policy
+     * @throws IllegalArgumentException if {@code rounds} is not positive
+     */
+    static MatchEndPolicy bestOf(int rounds) {
+        return new BestOfPolicy(rounds);
+    }
+
+    /**
+     * Creates a policy under which a player wins once they have at least the specified score
+     * and lead by at least two points.
+     *
+     * @param scoreToWin the minimum winning score
+     * @return the win-by-two policy
+     * @throws IllegalArgumentException if {@code scoreToWin} is not positive
+     */
+    static MatchEndPolicy winByTwo(int scoreToWin) {
+        return new WinByTwoPolicy(scoreToWin);
+    }
+
+    /**
+     * Caps the length of matches under this policy. A match still in progress after
+     * {@code maxRounds} rounds ends {@link MatchStatus#UNDECIDED undecided}.
+     *
+     * @param maxRounds the maximum number of rounds
+     * @return the capped policy
+     * @throws IllegalArgumentException if {@code maxRounds} is not positive
+     */
+    default MatchEndPolicy withRoundCap(int maxRounds) {
+        return new RoundCapPolicy(this, maxRounds);
+    }
+
+    /**
+     * The kinds of built-in policies.
+     */
+    enum Kind {
+        /** See {@link MatchEndPolicy#firstTo(int)}. */
+        FIRST_TO,
+        /** See {@link MatchEndPolicy#bestOf(int)}. */
+        BEST_OF,
+        /** See {@link MatchEndPolicy#winByTwo(int)}. */
+        WIN_BY_TWO
+    }
+
+    /**
+     * The description of a built-in policy.
+     *
+     * @param kind the kind of the policy
+     * @param value the winning score, or the length of the series for {@link Kind#BEST_OF}
+     * @param maxRounds the round cap of the policy, {@code 0} if uncapped
+     */
+    record Spec(Kind kind, int value, int maxRounds) {
+
+        /**
+         * Constructs a new {@code Spec}.
+         *
+         * @throws IllegalArgumentException if {@code maxRounds} is negative
+         */
+        public Spec {
+            Objects.requireNonNull(kind, "kind");
+            if (maxRounds < 0) {
+                throw new IllegalArgumentException("Max rounds must not be negative: %d".formatted(maxRounds));
+            }
+        }
+
+        /**
+         * Creates the described policy.
+         *
+         * @return a new {@link MatchEndPolicy}
+         * @throws IllegalArgumentException if {@code value} is not positive
+         */
+        public MatchEndPolicy toPolicy() {
+            MatchEndPolicy policy = switch (kind) {
+                case FIRST_TO -> firstTo(value);
+                case BEST_OF -> bestOf(value);
+                case WIN_BY_TWO -> winByTwo(value);
+            };
+            return maxRounds == 0 ? policy : policy.withRoundCap(maxRounds);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.player.PlayerIndex;
+
+import java.util.Optional;
+
+/**
+ * Enum representing the status of a match, as determined by its {@link MatchEndPolicy}.
+ */
+public enum MatchStatus {
+    IN_PROGRESS,
+    PLAYER_ONE_WINS,
+    PLAYER_TWO_WINS,
+    UNDECIDED;
+
+    /**
+     * Checks whether the match is over, either won by a player or ended {@link #UNDECIDED undecided}.
+     *
+     * @return {@code true} if the match is over, {@code false} otherwise
+     */
+    public boolean isOver() {
+        return this != IN_PROGRESS;
+    }
+
+    /**
+     * Gets the winner of the match.
+     *
+     * @return an {@link Optional} containing the {@link PlayerIndex} of the winner,
+     * or an empty {@link Optional} if the match has no winner
+     */
+    public Optional<PlayerIndex> winner() {
+        return switch (this) {
+            case PLAYER_ONE_WINS -> Optional.of(PlayerIndex.PLAYER_ONE);
+            case PLAYER_TWO_WINS -> Optional.of(PlayerIndex.PLAYER_TWO);
+            case IN_PROGRESS, UNDECIDED -> Optional.empty();
+        };
+    }
+}
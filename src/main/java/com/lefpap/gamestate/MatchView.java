@@ -0,0 +1,131 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.util.Optional;
+
+/**
+ * A read-only view of a match in progress.
+ *
+ * <p>
+ * The view is handed to strategies when they make a choice and when a round is resolved.
+ * It always reflects the current state of the match, so it can be passed around without
+ * creating a snapshot per round. Implementations must not be modified through this interface.
+ * </p>
+ */
+public interface MatchView {
+
+    /**
+     * Gets the number of rounds played so far.
+     *
+     * @return the number of played rounds
+     */
+    int getRoundCount();
+
+    /**
+     * Gets the score a player must reach to win the match.
+     *
+     * @return the winning score
+     */
+    int getScoreToWin();
+
+    /**
+     * Retrieves the score of the specified player.
+     *
+     * @param playerIndex the index of the player whose score is to be retrieved
+     * @return the score of the specified player
+     */
+    int getPlayerScore(PlayerIndex playerIndex);
+
+    /**
+     * Retrieves the exact score of the specified player, including fractional points.
+     *
+     * @param playerIndex the index of the player whose score is to be retrieved
+     * @return the score of the specified player, in units of {@code 1 / }{@value ScoringRule#POINT} of a point
+     */
+    default long getPlayerPoints(PlayerIndex playerIndex) {
+        return getPlayerScore(playerIndex) * ScoringRule.POINT;
+    }
+
+    /**
+     * Gets the rule set the match is played with.
+     *
+     * @return the {@link RuleSet} of the match
+     */
+    RuleSet getRuleSet();
+
+    /**
+     * Gets the policy deciding when the match ends.
+     *
+     * @return the {@link MatchEndPolicy} of the match
+     */
+    default MatchEndPolicy getEndPolicy() {
+        return MatchEndPolicy.firstTo(getScoreToWin());
+    }
+
+    /**
+     * Gets the scoring rule of the match.
+     *
+     * @return the {@link ScoringRule} of the match
+     */
+    default ScoringRule getScoringRule() {
+        return ScoringRule.standard(getRuleSet());
+    }
+
+    /**
+     * Retrieves the choice made by the specified player in the most recent round.
+     *
+     * @param playerIndex the index of the player whose choice is to be retrieved
+     * @return the last {@link PlayerChoice} of the player, or {@code null} if no rounds have been played
+     * @throws IllegalStateException if the match is not played with the {@link RuleSet#classic() classic} rule set
+     */
+    PlayerChoice getLastChoice(PlayerIndex playerIndex);
+
+    /**
+     * Retrieves the index of the choice made by the specified player in the most recent round.
+     *
+     * @param playerIndex the index of the player whose choice is to be retrieved
+     * @return the index of the last choice of the player in the {@link #getRuleSet() rule set},
+     *         or {@code -1} if no rounds have been played
+     */
+    int getLastChoiceIndex(PlayerIndex playerIndex);
+
+    /**
+     * Gets the result of the most recent round.
+     *
+     * @return the last {@link RoundResult}, or {@code null} if no rounds have been played
+     */
+    RoundResult getLastResult();
+
+    /**
+     * Gets the status of the match, as decided by its {@link MatchEndPolicy}.
+     *
+     * @return the {@link MatchStatus} of the match
+     */
+    MatchStatus getStatus();
+
+    /**
+     * Checks whether the match is over, either won by a player or ended undecided.
+     *
+     * @return {@code true} if the match is over, {@code false} otherwise
+     */
+    default boolean isOver() {
+        return getStatus().isOver();
+    }
+
+    /**
+     * Checks whether a player has won the match.
+     *
+     * @return {@code true} if a winner has been determined, {@code false} otherwise
+     */
+    boolean hasWinner();
+
+    /**
+     * Retrieves the winner of the match, if one exists.
+     *
+     * @return an {@link Optional} containing the {@link PlayerIndex} of the winner,
+     * or an empty {@link Optional} if no winner has been determined
+     */
+    Optional<PlayerIndex> getWinner();
+}
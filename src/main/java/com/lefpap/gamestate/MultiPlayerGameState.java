@@ -0,0 +1,205 @@
+package com.lefpap.gamestate;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Manages the state of a free-for-all game between any number of players.
+ *
+ * <p>
+ * Players are identified by their index, from {@code 0} to {@code getPlayerCount() - 1}, and make
+ * their choices simultaneously. A round is resolved from the set of choices present in it rather than
+ * by comparing players pairwise: see {@link RuleSet#winningChoices(long)}. Every player who made a
+ * winning choice scores a point, so a round costs time linear in the number of players.
+ * </p>
+ *
+ * <p>
+ * Scores are kept in a single {@code int[]}. The winners are detected incrementally, by checking only
+ * the players who scored in a round. If several players reach the winning score in the same round,
+ * they all win the game.
+ * </p>
+ */
+public class MultiPlayerGameState {
+
+    private final RuleSet rules;
+    private final int scoreToWin;
+    private final int[] scores;
+    private final int[] lastChoices;
+    private final int[] winners;
+    private int winnerCount;
+    private long lastWinningChoices;
+    private int roundCount;
+
+    /**
+     * Constructs a new {@code MultiPlayerGameState} with the {@link RuleSet#classic() classic} rules.
+     *
+     * @param playerCount the number of players
+     * @param scoreToWin the score a player must reach to win the game
+     * @throws IllegalArgumentException if {@code playerCount} is less than 2 or {@code scoreToWin} is not positive
+     */
+    public MultiPlayerGameState(int playerCount, int scoreToWin) {
+        this(RuleSet.classic(), playerCount, scoreToWin);
+    }
+
+    /**
+     * Constructs a new {@code MultiPlayerGameState} of a game variant played with the specified rule set.
+     *
+     * @param rules the rule set resolving the rounds
+     * @param playerCount the number of players
+     * @param scoreToWin the score a player must reach to win the game
+     * @throws IllegalArgumentException if {@code playerCount} is less than 2, {@code scoreToWin} is not positive,
+     *                                  or the rule set has more than {@link Long#SIZE} choices
+     */
+    public MultiPlayerGameState(RuleSet rules, int playerCount, int scoreToWin) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("A game needs at least two players: %d".formatted(playerCount));
+        }
+        if (scoreToWin <= 0) {
+            throw new IllegalArgumentException("Score to win must be positive: %d".formatted(scoreToWin));
+        }
+        if (rules.size() > Long.SIZE) {
+            throw new IllegalArgumentException("Multi-player games support at most %d choices: %d"
+                .formatted(Long.SIZE, rules.size()));
+        }
+
+        this.rules = rules;
+        this.scoreToWin = scoreToWin;
+        this.scores = new int[playerCount];
+        this.lastChoices = new int[playerCount];
+        this.winners = new int[playerCount];
+        Arrays.fill(lastChoices, -1);
+    }
+
+    /**
+     * Plays a round with the specified choices, one per player.
+     *
+     * <p>
+     * This method resolves the winning choices of the round, awards a point to every player
+     * who made one of them, and records the players who reach the winning score.
+     * </p>
+     *
+     * @param choices the index of the choice made by each player, in player order
+     * @return the number of players who won the round, {@code 0} if the round is a draw
+     * @throws IllegalArgumentException if the number of choices does not match the number of players
+     * @throws IndexOutOfBoundsException if a choice is not a valid index of the rule set
+     */
+    public int playRound(int... choices) {
+        if (choices.length != scores.length) {
+            throw new IllegalArgumentException("Expected %d choices: %d".formatted(scores.length, choices.length));
+        }
+
+        long present = 0;
+        for (int choice : choices) {
+            present |= 1L << Objects.checkIndex(choice, rules.size());
+        }
+
+        long winningChoices = rules.winningChoices(present);
+        roundCount++;
+        lastWinningChoices = winningChoices;
+        System.arraycopy(choices, 0, lastChoices, 0, choices.length);
+        if (winningChoices == 0) {
+            return 0;
+        }
+
+        boolean decided = winnerCount > 0;
+        int roundWinners = 0;
+        for (int player = 0; player < choices.length; player++) {
+            if ((winningChoices & (1L << choices[player])) != 0) {
+                roundWinners++;
+                if (++scores[player] == scoreToWin && !decided) {
+                    winners[winnerCount++] = player;
+                }
+            }
+        }
+        return roundWinners;
+    }
+
+    /**
+     * Gets the rule set of the game.
+     *
+     * @return the {@link RuleSet} of the game
+     */
+    public RuleSet getRuleSet() {
+        return rules;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return scores.length;
+    }
+
+    /**
+     * Gets the number of rounds played so far.
+     *
+     * @return the number of played rounds
+     */
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Gets the score a player must reach to win the game.
+     *
+     * @return the winning score
+     */
+    public int getScoreToWin() {
+        return scoreToWin;
+    }
+
+    /**
+     * Retrieves the score of the specified player.
+     *
+     * @param player the index of the player
+     * @return the score of the player
+     * @throws IndexOutOfBoundsException if {@code player} is not a valid player index
+     */
+    public int getPlayerScore(int player) {
+        return scores[Objects.checkIndex(player, scores.length)];
+    }
+
+    /**
+     * Retrieves the index of the choice made by the specified player in the most recent round.
+     *
+     * @param player the index of the player
+     * @return the index of the last choice of the player, or {@code -1} if no rounds have been played
+     * @throws IndexOutOfBoundsException if {@code player} is not a valid player index
+     */
+    public int getLastChoiceIndex(int player) {
+        return lastChoices[Objects.checkIndex(player, scores.length)];
+    }
+
+    /**
+     * Checks whether the specified player won the most recent round.
+     *
+     * @param player the index of the player
+     * @return {@code true} if the player made a winning choice in the last round, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code player} is not a valid player index
+     */
+    public boolean wonLastRound(int player) {
+        int choice = getLastChoiceIndex(player);
+        return choice >= 0 && (lastWinningChoices & (1L << choice)) != 0;
+    }
+
+    /**
+     * Checks whether at least one player has reached the winning score.
+     *
+     * @return {@code true} if the game has been won, {@code false} otherwise
+     */
+    public boolean hasWinner() {
+        return winnerCount > 0;
+    }
+
+    /**
+     * Retrieves the players who won the game.
+     *
+     * @return the indexes of the players who first reached the winning score, in player order,
+     *         or an empty array if no winner has been determined
+     */
+    public int[] getWinners() {
+        return Arrays.copyOf(winners, winnerCount);
+    }
+}
@@ -3,27 +3,30 @@ package com.lefpap.gamestate;
 import com.lefpap.player.PlayerChoice;
 import com.lefpap.player.PlayerIndex;
 
-import java.util.Objects;
-
 /**
  * Represents a single round in the game.
  *
  * <p>
  * The {@code Round} class captures the choices made by both players,
  * determines the result of the round, and assigns a unique index to the round.
+ * Choices are kept as indexes into the {@link RuleSet} the round was played with.
  * </p>
  */
 public class Round {
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
     private final int index;
-    private final PlayerChoice playerOneChoice;
-    private final PlayerChoice playerTwoChoice;
+    private final RuleSet rules;
+    private final int playerOneChoice;
+    private final int playerTwoChoice;
     private final RoundResult result;
 
     /**
-     * Constructs a new {@code Round} with the specified index and player choices.
+     * Constructs a new {@code Round} of the {@link RuleSet#classic() classic} game with the specified
+     * index and player choices.
      *
      * <p>The result of the round is automatically resolved based on the
-     * choices of the players.</p>
+     * choices of the players, using {@link RoundResult#of(PlayerChoice, PlayerChoice)}.</p>
      *
      * @param index the index of the round (e.g., 1 for the first round)
      * @param playerOneChoice the choice made by Player One
@@ -31,32 +34,31 @@ public class Round {
      */
     public Round(int index, PlayerChoice playerOneChoice, PlayerChoice playerTwoChoice) {
         this.index = index;
-        this.playerOneChoice = playerOneChoice;
-        this.playerTwoChoice = playerTwoChoice;
+        this.rules = RuleSet.classic();
+        this.playerOneChoice = playerOneChoice.ordinal();
+        this.playerTwoChoice = playerTwoChoice.ordinal();
 
-        this.result = resolveRoundResult();
+        this.result = RoundResult.of(playerOneChoice, playerTwoChoice);
     }
 
     /**
-     * Resolves the result of the round based on the players' choices.
+     * Constructs a new {@code Round} with the specified index and choice indexes of the specified rule set.
      *
-     * <p>The rules are:
-     * <ul>
-     *   <li>If both players make the same choice, the result is {@link RoundResult#DRAW}.</li>
-     *   <li>Otherwise, the result is determined by the {@link PlayerChoice#beats(PlayerChoice)} method.</li>
-     * </ul>
-     * </p>
+     * <p>The result of the round is automatically resolved using {@link RuleSet#resolve(int, int)}.</p>
      *
-     * @return the result of the round
+     * @param index the index of the round (e.g., 1 for the first round)
+     * @param rules the rule set the round is played with
+     * @param playerOneChoice the index of the choice made by Player One
+     * @param playerTwoChoice the index of the choice made by Player Two
+     * @throws IndexOutOfBoundsException if either choice is not a valid index of the rule set
      */
-    private RoundResult resolveRoundResult() {
-        if (Objects.equals(playerOneChoice, playerTwoChoice)) {
-            return RoundResult.DRAW;
-        }
+    public Round(int index, RuleSet rules, int playerOneChoice, int playerTwoChoice) {
+        this.index = index;
+        this.rules = rules;
+        this.playerOneChoice = playerOneChoice;
+        this.playerTwoChoice = playerTwoChoice;
 
-        return playerOneChoice.beats(playerTwoChoice)
-            ? RoundResult.PLAYER_ONE_WINS
-            : RoundResult.PLAYER_TWO_WINS;
+        this.result = rules.resolve(playerOneChoice, playerTwoChoice);
     }
 
     /**
@@ -68,13 +70,36 @@ public class Round {
         return index;
     }
 
+    /**
+     * Gets the rule set the round was played with.
+     *
+     * @return the {@link RuleSet} of the round
+     */
+    public RuleSet getRuleSet() {
+        return rules;
+    }
+
     /**
      * Retrieves the choice made by the specified player in this round.
      *
      * @param playerIndex the index of the player whose choice is to be retrieved
      * @return the {@link PlayerChoice} made by the specified player
+     * @throws IllegalStateException if the round was not played with the {@link RuleSet#classic() classic} rule set
      */
     public PlayerChoice getPlayerChoice(PlayerIndex playerIndex) {
+        if (!rules.isClassic()) {
+            throw new IllegalStateException("Round was not played with PlayerChoice values: %s".formatted(rules));
+        }
+        return CHOICES[getChoiceIndex(playerIndex)];
+    }
+
+    /**
+     * Retrieves the index of the choice made by the specified player in this round.
+     *
+     * @param playerIndex the index of the player whose choice is to be retrieved
+     * @return the index of the choice in the {@link RuleSet} of the round
+     */
+    public int getChoiceIndex(PlayerIndex playerIndex) {
         return switch (playerIndex) {
             case PLAYER_ONE -> playerOneChoice;
             case PLAYER_TWO -> playerTwoChoice;
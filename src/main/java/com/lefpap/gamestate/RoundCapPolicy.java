@@ -0,0 +1,62 @@
+package com.lefpap.gamestate;
+
+import java.util.Optional;
+
+/**
+ * Ends matches of another policy as undecided once they reach a maximum number of rounds.
+ */
+class RoundCapPolicy implements MatchEndPolicy {
+
+    private final MatchEndPolicy policy;
+    private final int maxRounds;
+
+    RoundCapPolicy(MatchEndPolicy policy, int maxRounds) {
+        if (maxRounds <= 0) {
+            throw new IllegalArgumentException("Max rounds must be positive: %d".formatted(maxRounds));
+        }
+        this.policy = policy;
+        this.maxRounds = maxRounds;
+    }
+
+    @Override
+    public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount) {
+        return evaluate(playerOneScore, playerTwoScore, roundCount, 1);
+    }
+
+    @Override
+    public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount, int maxSwing) {
+        MatchStatus status = policy.evaluate(playerOneScore, playerTwoScore, roundCount, maxSwing);
+        if (status == MatchStatus.IN_PROGRESS && roundCount >= maxRounds) {
+            return MatchStatus.UNDECIDED;
+        }
+        return status;
+    }
+
+    @Override
+    public int getScoreToWin() {
+        return policy.getScoreToWin();
+    }
+
+    @Override
+    public int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount) {
+        return Math.min(
+            policy.minRoundsRemaining(playerOneScore, playerTwoScore, roundCount),
+            Math.max(0, maxRounds - roundCount)
+        );
+    }
+
+    @Override
+    public Optional<Spec> getSpec() {
+        // A capped policy capped again ends at the lower cap
+        return policy.getSpec().map(spec -> new Spec(
+            spec.kind(),
+            spec.value(),
+            spec.maxRounds() == 0 ? maxRounds : Math.min(spec.maxRounds(), maxRounds)
+        ));
+    }
+
+    @Override
+    public String toString() {
+        return "%s, at most %d rounds".formatted(policy, maxRounds);
+    }
+}
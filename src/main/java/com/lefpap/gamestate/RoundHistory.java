@@ -0,0 +1,202 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A compact, append-only log of the rounds played in a game.
+ *
+ * <p>
+ * Instead of keeping a {@link Round} object per round, the {@code RoundHistory} packs the
+ * choice indexes of both players into a growable {@code byte[]}, two bytes per round.
+ * The result of a round is not stored, since it can be derived from the choices at any time.
+ * {@link Round} objects are only materialized on demand, as lightweight views of the log.
+ * Since a {@link RuleSet} has at most {@link RuleSet#MAX_CHOICES} choices, every index fits in a byte.
+ * </p>
+ *
+ * <p>
+ * Rounds are indexed starting from 1, matching {@link Round#getIndex()}.
+ * </p>
+ */
+public class RoundHistory {
+
+    private static final int BYTES_PER_ROUND = 2;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    private final RuleSet rules;
+    private byte[] choices;
+    private int size;
+
+    /**
+     * Constructs a new, empty {@code RoundHistory} of the {@link RuleSet#classic() classic} game.
+     */
+    public RoundHistory() {
+        this(RuleSet.classic());
+    }
+
+    /**
+     * Constructs a new, empty {@code RoundHistory} of rounds played with the specified rule set.
+     *
+     * @param rules the rule set the rounds are played with
+     */
+    public RoundHistory(RuleSet rules) {
+        this.rules = rules;
+        this.choices = new byte[INITIAL_CAPACITY * BYTES_PER_ROUND];
+    }
+
+    /**
+     * Appends a round to the history.
+     *
+     * @param playerOneChoice the choice made by Player One
+     * @param playerTwoChoice the choice made by Player Two
+     */
+    public void add(PlayerChoice playerOneChoice, PlayerChoice playerTwoChoice) {
+        add(playerOneChoice.ordinal(), playerTwoChoice.ordinal());
+    }
+
+    /**
+     * Appends a round to the history.
+     *
+     * @param playerOneChoice the index of the choice made by Player One
+     * @param playerTwoChoice the index of the choice made by Player Two
+     */
+    public void add(int playerOneChoice, int playerTwoChoice) {
+        int offset = size * BYTES_PER_ROUND;
+        if (offset == choices.length) {
+            choices = Arrays.copyOf(choices, choices.length * 2);
+        }
+
+        choices[offset] = (byte) playerOneChoice;
+        choices[offset + 1] = (byte) playerTwoChoice;
+        size++;
+    }
+
+    /**
+     * Gets the number of rounds in the history.
+     *
+     * @return the number of recorded rounds
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the history contains no rounds.
+     *
+     * @return {@code true} if no rounds have been recorded, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the choice made by the specified player in the specified round,
+     * without materializing a {@link Round}.
+     *
+     * @param index the index of the round, starting from 1
+     * @param playerIndex the index of the player whose choice is to be retrieved
+     * @return the {@link PlayerChoice} made by the specified player
+     * @throws IndexOutOfBoundsException if no round with the specified index has been recorded
+     * @throws IllegalStateException if the rounds are not played with the {@link RuleSet#classic() classic} rule set
+     */
+    public PlayerChoice getPlayerChoice(int index, PlayerIndex playerIndex) {
+        if (!rules.isClassic()) {
+            throw new IllegalStateException("Rounds are not played with PlayerChoice values: %s".formatted(rules));
+        }
+        return CHOICES[getChoiceIndex(index, playerIndex)];
+    }
+
+    /**
+     * Retrieves the index of the choice made by the specified player in the specified round,
+     * without materializing a {@link Round}.
+     *
+     * @param index the index of the round, starting from 1
+     * @param playerIndex the index of the player whose choice is to be retrieved
+     * @return the index of the choice in the rule set of the history
+     * @throws IndexOutOfBoundsException if no round with the specified index has been recorded
+     */
+    public int getChoiceIndex(int index, PlayerIndex playerIndex) {
+        int offset = offsetOf(index);
+        return switch (playerIndex) {
+            case PLAYER_ONE -> choices[offset] & 0xFF;
+            case PLAYER_TWO -> choices[offset + 1] & 0xFF;
+        };
+    }
+
+    /**
+     * Retrieves the result of the specified round, without materializing a {@link Round}.
+     *
+     * @param index the index of the round, starting from 1
+     * @return the result of the round
+     * @throws IndexOutOfBoundsException if no round with the specified index has been recorded
+     */
+    public RoundResult getResult(int index) {
+        int offset = offsetOf(index);
+        return rules.resolve(choices[offset] & 0xFF, choices[offset + 1] & 0xFF);
+    }
+
+    /**
+     * Materializes the specified round.
+     *
+     * @param index the index of the round, starting from 1
+     * @return a new {@link Round} view of the recorded round
+     * @throws IndexOutOfBoundsException if no round with the specified index has been recorded
+     */
+    public Round get(int index) {
+        int offset = offsetOf(index);
+        return new Round(index, rules, choices[offset] & 0xFF, choices[offset + 1] & 0xFF);
+    }
+
+    /**
+     * Materializes the most recent round.
+     *
+     * @return an {@link Optional} containing the last {@link Round},
+     * or an empty {@link Optional} if no rounds have been recorded
+     */
+    public Optional<Round> last() {
+        return isEmpty() ? Optional.empty() : Optional.of(get(size));
+    }
+
+    /**
+     * Copies the packed choices of all recorded rounds into a buffer, two bytes per round.
+     *
+     * @param buffer the buffer to write to, from its position
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.put(choices, 0, size * BYTES_PER_ROUND);
+    }
+
+    /**
+     * Replaces the history with the specified number of rounds read from a buffer, two bytes per round.
+     *
+     * @param buffer the buffer to read from, from its position
+     * @param rounds the number of rounds to read
+     * @throws IllegalArgumentException if a choice is not a valid index of the rule set
+     */
+    void readFrom(ByteBuffer buffer, int rounds) {
+        int length = rounds * BYTES_PER_ROUND;
+        if (length > choices.length) {
+            choices = new byte[Math.max(length, choices.length * 2)];
+        }
+        buffer.get(choices, 0, length);
+        for (int i = 0; i < length; i++) {
+            if ((choices[i] & 0xFF) >= rules.size()) {
+                throw new IllegalArgumentException("Invalid choice index in round %d: %d"
+                    .formatted(i / BYTES_PER_ROUND + 1, choices[i] & 0xFF));
+            }
+        }
+        size = rounds;
+    }
+
+    private int offsetOf(int index) {
+        if (index < 1 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid round index: %d (rounds: %d)".formatted(index, size));
+        }
+        return (index - 1) * BYTES_PER_ROUND;
+    }
+}
@@ -1,5 +1,7 @@
 package com.lefpap.gamestate;
 
+import com.lefpap.player.PlayerChoice;
+
 /**
  * Enum representing the possible results of a round in the game.
  */
@@ -7,4 +9,48 @@ public enum RoundResult {
     PLAYER_ONE_WINS,
     PLAYER_TWO_WINS,
     DRAW;
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    /**
+     * Precomputed outcomes of every pair of choices, indexed by
+     * {@code playerOneChoice.ordinal() * CHOICES.length + playerTwoChoice.ordinal()}.
+     */
+    private static final RoundResult[] OUTCOMES = new RoundResult[CHOICES.length * CHOICES.length];
+
+    static {
+        for (PlayerChoice playerOneChoice : CHOICES) {
+            for (PlayerChoice playerTwoChoice : CHOICES) {
+                RoundResult result;
+                if (playerOneChoice == playerTwoChoice) {
+                    result = DRAW;
+                } else if (playerOneChoice.beats(playerTwoChoice)) {
+                    result = PLAYER_ONE_WINS;
+                } else {
+                    result = PLAYER_TWO_WINS;
+                }
+                OUTCOMES[playerOneChoice.ordinal() * CHOICES.length + playerTwoChoice.ordinal()] = result;
+            }
+        }
+    }
+
+    /**
+     * Resolves the result of a round from the players' choices.
+     *
+     * <p>The rules are:
+     * <ul>
+     *   <li>If both players make the same choice, the result is {@link #DRAW}.</li>
+     *   <li>Otherwise, the result is determined by the {@link PlayerChoice#beats(PlayerChoice)} method.</li>
+     * </ul>
+     * The outcomes of all pairs of choices are precomputed, so this method is a single
+     * table lookup and allocates nothing.
+     * </p>
+     *
+     * @param playerOneChoice the choice made by Player One
+     * @param playerTwoChoice the choice made by Player Two
+     * @return the result of the round
+     */
+    public static RoundResult of(PlayerChoice playerOneChoice, PlayerChoice playerTwoChoice) {
+        return OUTCOMES[playerOneChoice.ordinal() * CHOICES.length + playerTwoChoice.ordinal()];
+    }
 }
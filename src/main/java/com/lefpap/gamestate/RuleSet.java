@@ -0,0 +1,275 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.player.PlayerChoice;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * The rules of a game variant: the available choices and which choice beats which.
+ *
+ * <p>
+ * Choices are identified by their index, from {@code 0} to {@code size() - 1}. Dominance is
+ * precomputed into one bitmask row per choice, where bit {@code j} of row {@code i} is set if
+ * choice {@code i} beats choice {@code j}. Resolving a round is therefore at most two bit tests,
+ * no matter how many choices the variant has.
+ * </p>
+ *
+ * <p>
+ * Variants are built as balanced cycles: with an odd number {@code n} of choices, each choice
+ * beats the {@code (n - 1) / 2} choices that precede it in cyclic order and loses to the ones
+ * that follow it. The {@link #classic() classic} rule set is the cycle of the {@link PlayerChoice}
+ * values in declaration order, so its choice indexes are the {@link PlayerChoice#ordinal() ordinals}.
+ * </p>
+ */
+public final class RuleSet {
+
+    /**
+     * The maximum number of choices of a rule set, so that a choice index always fits in one byte.
+     */
+    public static final int MAX_CHOICES = 256;
+
+    private static final RuleSet CLASSIC = cyclic(Arrays.stream(PlayerChoice.values()).map(Enum::name).toList());
+
+    private static final RuleSet ROCK_PAPER_SCISSORS_LIZARD_SPOCK =
+        cyclic(List.of("ROCK", "SPOCK", "PAPER", "LIZARD", "SCISSORS"));
+
+    private final String[] names;
+    private final int words;
+    private final long[] dominance;
+    private final long[] beatenBy;
+    private ScoringRule standardScoring;
+
+    private RuleSet(String[] names, long[] dominance) {
+        this.names = names;
+        this.words = wordsPerRow(names.length);
+        this.dominance = dominance;
+
+        // The transposed table: bit j of row i is set if choice j beats choice i
+        this.beatenBy = new long[dominance.length];
+        for (int winner = 0; winner < names.length; winner++) {
+            for (int loser = 0; loser < names.length; loser++) {
+                if ((dominance[winner * words + (loser >>> 6)] & (1L << loser)) != 0) {
+                    beatenBy[loser * words + (winner >>> 6)] |= 1L << winner;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the classic Rock-Paper-Scissors rule set, whose choice indexes are the
+     * {@link PlayerChoice#ordinal() ordinals} of the {@link PlayerChoice} values.
+     *
+     * @return the classic rule set
+     */
+    public static RuleSet classic() {
+        return CLASSIC;
+    }
+
+    /**
+     * Gets the Rock-Paper-Scissors-Lizard-Spock rule set.
+     *
+     * @return the Rock-Paper-Scissors-Lizard-Spock rule set
+     */
+    public static RuleSet rockPaperScissorsLizardSpock() {
+        return ROCK_PAPER_SCISSORS_LIZARD_SPOCK;
+    }
+
+    /**
+     * Builds a balanced cyclic rule set with the specified number of anonymous choices,
+     * named {@code "1"} to {@code "n"}.
+     *
+     * @param size the number of choices
+     * @return the cyclic rule set
+     * @throws IllegalArgumentException if {@code size} is not an odd number between 3 and {@link #MAX_CHOICES}
+     */
+    public static RuleSet cyclic(int size) {
+        if (size > MAX_CHOICES) {
+            throw new IllegalArgumentException("Too many choices for a rule set: %d".formatted(size));
+        }
+
+        String[] names = new String[Math.max(size, 0)];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = Integer.toString(i + 1);
+        }
+        return cyclic(List.of(names));
+    }
+
+    /**
+     * Builds a balanced cyclic rule set over the specified choices, in which each choice beats
+     * the {@code (n - 1) / 2} choices preceding it in the list, wrapping around at the start.
+     *
+     * @param names the names of the choices, in cyclic order
+     * @return the cyclic rule set
+     * @throws IllegalArgumentException if the number of choices is not odd, is less than 3 or exceeds
+     *                                  {@link #MAX_CHOICES}, or if a name appears more than once
+     */
+    public static RuleSet cyclic(List<String> names) {
+        int size = names.size();
+        if (size < 3 || size > MAX_CHOICES || size % 2 == 0) {
+            throw new IllegalArgumentException("A cyclic rule set needs an odd number of choices between 3 and %d: %d"
+                .formatted(MAX_CHOICES, size));
+        }
+
+        Set<String> distinct = new HashSet<>();
+        for (String name : names) {
+            if (!distinct.add(name.toUpperCase())) {
+                throw new IllegalArgumentException("Duplicate choice: %s".formatted(name));
+            }
+        }
+
+        int words = wordsPerRow(size);
+        long[] dominance = new long[size * words];
+        for (int winner = 0; winner < size; winner++) {
+            for (int distance = 1; distance <= size / 2; distance++) {
+                int loser = Math.floorMod(winner - distance, size);
+                dominance[winner * words + (loser >>> 6)] |= 1L << loser;
+            }
+        }
+
+        return new RuleSet(names.toArray(String[]::new), dominance);
+    }
+
+    /**
+     * Gets the number of choices.
+     *
+     * @return the number of choices
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets the name of the specified choice.
+     *
+     * @param choice the index of the choice
+     * @return the name of the choice
+     * @throws IndexOutOfBoundsException if {@code choice} is not a valid choice index
+     */
+    public String getName(int choice) {
+        return names[Objects.checkIndex(choice, names.length)];
+    }
+
+    /**
+     * Looks up a choice by its name, ignoring case.
+     *
+     * @param name the name of the choice
+     * @return an {@link OptionalInt} containing the index of the choice,
+     *         or an empty {@link OptionalInt} if no choice has that name
+     */
+    public OptionalInt indexOf(String name) {
+        for (int choice = 0; choice < names.length; choice++) {
+            if (names[choice].equalsIgnoreCase(name)) {
+                return OptionalInt.of(choice);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Determines whether one choice beats another.
+     *
+     * @param choice the index of the choice
+     * @param other the index of the choice to compare against
+     * @return {@code true} if {@code choice} beats {@code other}, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if either index is not a valid choice index
+     */
+    public boolean beats(int choice, int other) {
+        Objects.checkIndex(choice, names.length);
+        Objects.checkIndex(other, names.length);
+        return (dominance[choice * words + (other >>> 6)] & (1L << other)) != 0;
+    }
+
+    /**
+     * Resolves the result of a round from the indexes of the players' choices.
+     *
+     * @param playerOneChoice the index of the choice made by Player One
+     * @param playerTwoChoice the index of the choice made by Player Two
+     * @return the result of the round
+     * @throws IndexOutOfBoundsException if either index is not a valid choice index
+     */
+    public RoundResult resolve(int playerOneChoice, int playerTwoChoice) {
+        if (beats(playerOneChoice, playerTwoChoice)) {
+            return RoundResult.PLAYER_ONE_WINS;
+        }
+        if (beats(playerTwoChoice, playerOneChoice)) {
+            return RoundResult.PLAYER_TWO_WINS;
+        }
+        return RoundResult.DRAW;
+    }
+
+    /**
+     * Resolves a round between any number of players from the set of choices present in it.
+     *
+     * <p>
+     * A present choice wins if it beats at least one other present choice and is beaten by none.
+     * When every present choice is beaten by another one (e.g. all three classic choices are present),
+     * or only one choice is present, no choice wins. The cost depends only on the number of distinct
+     * choices present, not on the number of players.
+     * </p>
+     *
+     * @param present a bitmask with bit {@code i} set if choice {@code i} was made by at least one player
+     * @return a bitmask of the winning choices, {@code 0} if the round is a draw
+     * @throws IllegalStateException if the rule set has more than {@link Long#SIZE} choices
+     */
+    public long winningChoices(long present) {
+        if (words != 1) {
+            throw new IllegalStateException("Presence masks support at most %d choices: %d".formatted(Long.SIZE, names.length));
+        }
+
+        long winners = 0;
+        for (long remaining = present; remaining != 0; remaining &= remaining - 1) {
+            int choice = Long.numberOfTrailingZeros(remaining);
+            if ((dominance[choice] & present) != 0 && (beatenBy[choice] & present) == 0) {
+                winners |= 1L << choice;
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Returns the index of a random choice.
+     *
+     * @param rnd the random number generator to use
+     * @return a uniformly selected choice index
+     */
+    public int random(RandomGenerator rnd) {
+        return rnd.nextInt(names.length);
+    }
+
+    /**
+     * Checks whether this is the {@link #classic() classic} rule set, whose choices are {@link PlayerChoice} values.
+     *
+     * @return {@code true} if this is the classic rule set, {@code false} otherwise
+     */
+    public boolean isClassic() {
+        return this == CLASSIC;
+    }
+
+    /**
+     * Gets the standard scoring rule of this rule set, built on first use. A race between two threads
+     * builds it twice, which is harmless since scoring rules are immutable.
+     */
+    ScoringRule standardScoring() {
+        ScoringRule scoring = standardScoring;
+        if (scoring == null) {
+            scoring = ScoringRule.createStandard(this);
+            standardScoring = scoring;
+        }
+        return scoring;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSet" + Arrays.toString(names);
+    }
+
+    private static int wordsPerRow(int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE;
+    }
+}
@@ -10,34 +10,78 @@ import com.lefpap.player.PlayerIndex;
  * and Player Two. It provides methods to retrieve and increment scores
  * for each player based on their {@link PlayerIndex}.
  * </p>
+ *
+ * <p>
+ * Scores are kept as fixed-point {@code long} points, in units of {@code 1 / }{@value ScoringRule#POINT}
+ * of a point, so that {@link ScoringRule weighted} rounds and fractional points are tracked exactly.
+ * {@link #getPlayerScore(PlayerIndex)} reports whole points, rounded down.
+ * </p>
  */
 public class Scoreboard {
 
-    private int playerOneScore;
-    private int playerTwoScore;
+    private long playerOnePoints;
+    private long playerTwoPoints;
 
     /**
-     * Retrieves the score of the specified player.
+     * Retrieves the score of the specified player, in whole points.
      *
      * @param playerIndex the index of the player whose score is to be retrieved
-     * @return the score of the specified player
+     * @return the score of the specified player, rounded down to a whole number of points
      * @throws IllegalArgumentException if the provided {@code playerIndex} is invalid
      */
     public int getPlayerScore(PlayerIndex playerIndex) {
+        return (int) Math.floorDiv(getPlayerPoints(playerIndex), ScoringRule.POINT);
+    }
+
+    /**
+     * Retrieves the exact score of the specified player.
+     *
+     * @param playerIndex the index of the player whose score is to be retrieved
+     * @return the score of the specified player, in units of {@code 1 / }{@value ScoringRule#POINT} of a point
+     * @throws IllegalArgumentException if the provided {@code playerIndex} is invalid
+     */
+    public long getPlayerPoints(PlayerIndex playerIndex) {
         return switch (playerIndex) {
-            case PLAYER_ONE -> playerOneScore;
-            case PLAYER_TWO -> playerTwoScore;
+            case PLAYER_ONE -> playerOnePoints;
+            case PLAYER_TWO -> playerTwoPoints;
             default -> throw new IllegalArgumentException("Invalid player index: %s".formatted(playerIndex));
         };
     }
 
+    /**
+     * Awards one point to the winner of a round, as in the {@link ScoringRule#standard(RuleSet) standard} scoring.
+     *
+     * @param roundResult the result of the round
+     */
     public void updateScores(RoundResult roundResult) {
         switch (roundResult) {
-            case PLAYER_ONE_WINS -> playerOneScore++;
-            case PLAYER_TWO_WINS -> playerTwoScore++;
+            case PLAYER_ONE_WINS -> playerOnePoints += ScoringRule.POINT;
+            case PLAYER_TWO_WINS -> playerTwoPoints += ScoringRule.POINT;
             case DRAW -> {
                 // No update on draw
             }
         }
     }
+
+    /**
+     * Adds the points scored by both players in a round.
+     *
+     * @param playerOnePoints the points of Player One, in units of {@code 1 / }{@value ScoringRule#POINT} of a point
+     * @param playerTwoPoints the points of Player Two, in units of {@code 1 / }{@value ScoringRule#POINT} of a point
+     */
+    public void addPoints(long playerOnePoints, long playerTwoPoints) {
+        this.playerOnePoints += playerOnePoints;
+        this.playerTwoPoints += playerTwoPoints;
+    }
+
+    /**
+     * Overwrites both scores, e.g. when restoring a match from a snapshot.
+     *
+     * @param playerOnePoints the points of Player One
+     * @param playerTwoPoints the points of Player Two
+     */
+    void setPoints(long playerOnePoints, long playerTwoPoints) {
+        this.playerOnePoints = playerOnePoints;
+        this.playerTwoPoints = playerTwoPoints;
+    }
 }
@@ -0,0 +1,206 @@
+package com.lefpap.gamestate;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * How many points a round is worth to each player, depending on the choices made in it.
+ *
+ * <p>
+ * A scoring rule is a payoff table over the choices of a {@link RuleSet}: cell {@code (choice, opponentChoice)}
+ * holds the points a player scores when making {@code choice} against {@code opponentChoice}. Both players are
+ * scored from the same table, each from their own side. The table is precomputed once into a flat
+ * {@code long[]}, so scoring a round costs two array reads whatever the variant.
+ * </p>
+ *
+ * <p>
+ * Points are fixed-point numbers counted in units of {@code 1 / }{@value #POINT} of a point, which represents
+ * fractional payoffs such as draws worth half a point exactly and keeps all arithmetic on primitive longs.
+ * The {@link #standard(RuleSet) standard} rule awards one point per win and nothing for draws or losses.
+ * </p>
+ *
+ * <p>
+ * A {@link MatchEndPolicy} decides on whole points, rounded down: fractional points count once they add up
+ * to a whole point. Policies are evaluated with the most whole points a round can move the lead, so a policy
+ * that ends a series early because the trailing player can no longer catch up, like
+ * {@link MatchEndPolicy#bestOf(int)}, still lets them catch up with rounds worth more than one point.
+ * </p>
+ */
+public final class ScoringRule {
+
+    /**
+     * The number of fixed-point units in one point.
+     */
+    public static final long POINT = 1_000;
+
+    private final RuleSet rules;
+    private final long[] points;
+    private final int maxSwing;
+
+    private ScoringRule(RuleSet rules, long[] points) {
+        this.rules = rules;
+        this.points = points;
+
+        long max = 0;
+        long min = 0;
+        boolean fractional = false;
+        for (long cell : points) {
+            max = Math.max(max, cell);
+            min = Math.min(min, cell);
+            fractional |= cell < 0 || cell % POINT != 0;
+        }
+        // The most a round can change either score, or the lead, in whole points. Scores are floored,
+        // so with fractional or negative points both scores can cross a point boundary in opposite
+        // directions: 0.5 to 0 becoming 1 to -0.5 moves the whole-point lead by 2 on a swing of 1
+        int swing = (int) Math.max(1, Math.ceilDiv(max - min, POINT));
+        this.maxSwing = fractional ? swing + 1 : swing;
+    }
+
+    /**
+     * Gets the standard scoring rule of a rule set, which awards one point per win.
+     *
+     * @param rules the rule set
+     * @return the standard scoring rule
+     */
+    public static ScoringRule standard(RuleSet rules) {
+        return rules.standardScoring();
+    }
+
+    /**
+     * Builds the standard scoring rule of a rule set. Use {@link #standard(RuleSet)}, which is cached.
+     */
+    static ScoringRule createStandard(RuleSet rules) {
+        return weighted(rules, 1, 0, 0);
+    }
+
+    /**
+     * Creates a scoring rule that awards fixed points for wins, draws and losses.
+     *
+     * @param rules the rule set
+     * @param winPoints the points scored for a win
+     * @param drawPoints the points scored for a draw
+     * @param lossPoints the points scored for a loss, negative for a penalty
+     * @return the scoring rule
+     * @throws IllegalArgumentException if a number of points is not finite or out of range
+     */
+    public static ScoringRule weighted(RuleSet rules, double winPoints, double drawPoints, double lossPoints) {
+        double[] wins = new double[rules.size()];
+        Arrays.fill(wins, winPoints);
+        return weighted(rules, wins, drawPoints, lossPoints);
+    }
+
+    /**
+     * Creates a scoring rule where a win is worth an amount that depends on the winning choice.
+     *
+     * @param rules the rule set
+     * @param winPoints the points scored for a win with each choice, indexed by choice
+     * @param drawPoints the points scored for a draw
+     * @param lossPoints the points scored for a loss, negative for a penalty
+     * @return the scoring rule
+     * @throws IllegalArgumentException if there is not one number of win points per choice,
+     *                                  or a number of points is not finite or out of range
+     */
+    public static ScoringRule weighted(RuleSet rules, double[] winPoints, double drawPoints, double lossPoints) {
+        int size = rules.size();
+        if (winPoints.length != size) {
+            throw new IllegalArgumentException("Expected %d win points: %d".formatted(size, winPoints.length));
+        }
+
+        double[][] table = new double[size][size];
+        for (int choice = 0; choice < size; choice++) {
+            for (int opponentChoice = 0; opponentChoice < size; opponentChoice++) {
+                table[choice][opponentChoice] = switch (rules.resolve(choice, opponentChoice)) {
+                    case PLAYER_ONE_WINS -> winPoints[choice];
+                    case PLAYER_TWO_WINS -> lossPoints;
+                    case DRAW -> drawPoints;
+                };
+            }
+        }
+        return of(rules, table);
+    }
+
+    /**
+     * Creates a scoring rule from an explicit payoff table.
+     *
+     * @param rules the rule set
+     * @param points the points scored by a player, indexed by their choice and then by the opponent's choice
+     * @return the scoring rule
+     * @throws IllegalArgumentException if the table is not {@code size x size} for the rule set,
+     *                                  or a number of points is not finite or out of range
+     */
+    public static ScoringRule of(RuleSet rules, double[][] points) {
+        int size = rules.size();
+        if (points.length != size) {
+            throw new IllegalArgumentException("Expected %d rows of points: %d".formatted(size, points.length));
+        }
+
+        long[] table = new long[size * size];
+        for (int choice = 0; choice < size; choice++) {
+            if (points[choice].length != size) {
+                throw new IllegalArgumentException("Expected %d points in row %d: %d"
+                    .formatted(size, choice, points[choice].length));
+            }
+            for (int opponentChoice = 0; opponentChoice < size; opponentChoice++) {
+                table[choice * size + opponentChoice] = toFixedPoint(points[choice][opponentChoice]);
+            }
+        }
+        return new ScoringRule(rules, table);
+    }
+
+    /**
+     * Gets the rule set the scoring rule applies to.
+     *
+     * @return the {@link RuleSet}
+     */
+    public RuleSet getRuleSet() {
+        return rules;
+    }
+
+    /**
+     * Gets the points a player scores when making a choice against an opponent's choice.
+     *
+     * @param choice the index of the choice of the player
+     * @param opponentChoice the index of the choice of the opponent
+     * @return the points of the player, in units of {@code 1 / }{@value #POINT} of a point
+     * @throws IndexOutOfBoundsException if either choice is not a valid index of the rule set
+     */
+    public long points(int choice, int opponentChoice) {
+        int size = rules.size();
+        return points[Objects.checkIndex(choice, size) * size + Objects.checkIndex(opponentChoice, size)];
+    }
+
+    /**
+     * Checks whether this rule awards exactly one point per win and nothing else.
+     *
+     * @return {@code true} if this is the standard scoring rule of its rule set, {@code false} otherwise
+     */
+    public boolean isStandard() {
+        return this == rules.standardScoring()
+            || Arrays.equals(points, rules.standardScoring().points);
+    }
+
+    long[] table() {
+        return points;
+    }
+
+    /**
+     * Gets the most whole points by which a single round can change a score or the lead between two scores,
+     * which turns a lower bound on the remaining rounds at one point per round into a bound for this rule.
+     */
+    int maxSwing() {
+        return maxSwing;
+    }
+
+    @Override
+    public String toString() {
+        return "ScoringRule[%s]".formatted(rules);
+    }
+
+    private static long toFixedPoint(double points) {
+        double scaled = points * POINT;
+        if (!Double.isFinite(scaled) || Math.abs(scaled) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number of points: %s".formatted(points));
+        }
+        return Math.round(scaled);
+    }
+}
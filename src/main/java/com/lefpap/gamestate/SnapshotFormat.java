@@ -0,0 +1,54 @@
+package com.lefpap.gamestate;
+
+/**
+ * Constants describing the binary layout of a {@link GameState} snapshot.
+ *
+ * <p>
+ * A snapshot is a little-endian header of {@value #HEADER_SIZE} bytes followed by the recorded
+ * round history, two bytes per round:
+ * <pre>
+ * offset  size  field
+ *      0     4  magic number ({@code "RPSG"})
+ *      4     1  format version ({@value #VERSION})
+ *      5     1  flags (bit 0 = round history recorded)
+ *      6     1  match status ordinal
+ *      7     1  reserved
+ *      8     4  number of choices of the rule set
+ *     12     4  score to win
+ *     16     8  Player One points (fixed-point, see {@link ScoringRule#POINT})
+ *     24     8  Player Two points (fixed-point)
+ *     32     4  round count
+ *     36     2  Player One last choice index ({@code -1} if none)
+ *     38     2  Player Two last choice index ({@code -1} if none)
+ *     40     4  number of recorded rounds
+ *     44  2 * n  recorded rounds, as Player One and Player Two choice indexes
+ * </pre>
+ * The scoring rule, end policy and event sink of the match are not part of the snapshot: they are
+ * configuration rather than state, and are supplied again on restore. The number of choices and
+ * the score to win are only stored to check that they match.
+ * </p>
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x47535052;
+    static final byte VERSION = 2;
+    static final int HEADER_SIZE = 44;
+
+    static final byte RECORD_ROUNDS = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int FLAGS_OFFSET = 5;
+    static final int STATUS_OFFSET = 6;
+    static final int CHOICES_OFFSET = 8;
+    static final int SCORE_TO_WIN_OFFSET = 12;
+    static final int PLAYER_ONE_POINTS_OFFSET = 16;
+    static final int PLAYER_TWO_POINTS_OFFSET = 24;
+    static final int ROUND_COUNT_OFFSET = 32;
+    static final int PLAYER_ONE_LAST_CHOICE_OFFSET = 36;
+    static final int PLAYER_TWO_LAST_CHOICE_OFFSET = 38;
+    static final int RECORDED_ROUNDS_OFFSET = 40;
+
+    private SnapshotFormat() {
+    }
+}
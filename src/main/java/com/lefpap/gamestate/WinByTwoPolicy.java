@@ -0,0 +1,56 @@
+package com.lefpap.gamestate;
+
+import java.util.Optional;
+
+/**
+ * A player wins once they reach a minimum score with a lead of at least two points.
+ */
+class WinByTwoPolicy implements MatchEndPolicy {
+
+    private final int scoreToWin;
+
+    WinByTwoPolicy(int scoreToWin) {
+        if (scoreToWin <= 0) {
+            throw new IllegalArgumentException("Score to win must be positive: %d".formatted(scoreToWin));
+        }
+        this.scoreToWin = scoreToWin;
+    }
+
+    @Override
+    public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount) {
+        if (playerOneScore >= scoreToWin && playerOneScore - playerTwoScore >= 2) {
+            return MatchStatus.PLAYER_ONE_WINS;
+        }
+        if (playerTwoScore >= scoreToWin && playerTwoScore - playerOneScore >= 2) {
+            return MatchStatus.PLAYER_TWO_WINS;
+        }
+        return MatchStatus.IN_PROGRESS;
+    }
+
+    @Override
+    public int getScoreToWin() {
+        return Math.max(scoreToWin, 2);
+    }
+
+    @Override
+    public int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount) {
+        return Math.min(
+            roundsToWin(playerOneScore, playerTwoScore),
+            roundsToWin(playerTwoScore, playerOneScore)
+        );
+    }
+
+    @Override
+    public Optional<Spec> getSpec() {
+        return Optional.of(new Spec(Kind.WIN_BY_TWO, scoreToWin, 0));
+    }
+
+    @Override
+    public String toString() {
+        return "first to %d, win by two".formatted(scoreToWin);
+    }
+
+    private int roundsToWin(int score, int opponentScore) {
+        return Math.max(0, Math.max(scoreToWin - score, opponentScore + 2 - score));
+    }
+}
@@ -0,0 +1,75 @@
+package com.lefpap.journal;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.gamestate.ScoringRule;
+import com.lefpap.player.PlayerIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A sink that records the events of a single match to a {@link MatchJournalWriter}.
+ *
+ * <p>
+ * The journal records the end policy of a match by its {@link MatchEndPolicy.Spec description} and
+ * does not record scores, so only matches with a built-in end policy and
+ * {@link ScoringRule#isStandard() standard} scoring can be recorded. Any other match fails with an
+ * {@link IllegalArgumentException} when it publishes its start event to this sink.
+ * </p>
+ */
+public class JournalEventSink implements MatchEventSink {
+
+    private final MatchJournalWriter writer;
+    private final long matchId;
+
+    /**
+     * Constructs a new {@code JournalEventSink}.
+     *
+     * @param writer the journal to record to
+     * @param matchId the id under which the match is recorded
+     */
+    public JournalEventSink(MatchJournalWriter writer, long matchId) {
+        this.writer = writer;
+        this.matchId = matchId;
+    }
+
+    /**
+     * Records the start of the match.
+     *
+     * @param match the started match
+     * @throws IllegalArgumentException if the match has a custom end policy or non-standard scoring
+     * @throws UncheckedIOException if the record cannot be written
+     */
+    @Override
+    public void onMatchStarted(MatchView match) {
+        if (!match.getScoringRule().isStandard()) {
+            throw new IllegalArgumentException(
+                "Journal cannot record weighted scoring: %s".formatted(match.getScoringRule()));
+        }
+        MatchEndPolicy.Spec endPolicy = match.getEndPolicy().getSpec()
+            .orElseThrow(() -> new IllegalArgumentException(
+                "Journal cannot record custom end policy: %s".formatted(match.getEndPolicy())));
+        try {
+            writer.appendMatchStart(matchId, match.getRuleSet(), endPolicy);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onRoundResolved(MatchView match) {
+        try {
+            writer.appendRound(
+                matchId,
+                match.getRoundCount(),
+                match.getRuleSet(),
+                match.getLastChoiceIndex(PlayerIndex.PLAYER_ONE),
+                match.getLastChoiceIndex(PlayerIndex.PLAYER_TWO)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
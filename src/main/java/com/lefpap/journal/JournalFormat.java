@@ -0,0 +1,112 @@
+package com.lefpap.journal;
+
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.RuleSet;
+
+import java.nio.file.Path;
+
+/**
+ * Constants describing the binary layout of the match journal.
+ *
+ * <p>
+ * A journal is a directory of segment files named {@code segment-<index>.journal}. Each segment
+ * is a plain sequence of fixed-size, little-endian records of {@value #RECORD_SIZE} bytes:
+ * <pre>
+ * offset  size  field
+ *      0     1  record type ({@value #MATCH_START} = match start, {@value #ROUND} = round,
+ *               {@value #ROUND_CAP} = round cap)
+ *      1     1  end policy kind (match start: {@value #FIRST_TO} = first to, {@value #BEST_OF} = best of,
+ *               {@value #WIN_BY_TWO} = win by two) or Player One choice index (round)
+ *      2     1  Player Two choice index (round)
+ *      3     1  number of choices of the rule set, minus one
+ *      4     4  winning score, or series length for best-of (match start), round index (round)
+ *               or maximum number of rounds (round cap)
+ *      8     8  match id
+ * </pre>
+ * Fixed-size records make it possible to address any record directly and to scan
+ * memory-mapped segments without parsing.
+ * </p>
+ *
+ * <p>
+ * Choice indexes refer to the {@link RuleSet} of the match. Every rule set is a balanced cycle,
+ * so rounds resolve the same in all rule sets with the same number of choices, and that number is
+ * all the journal records of the rule set. The end policy is recorded by its
+ * {@link MatchEndPolicy.Spec description}; a capped policy's start record is directly followed by
+ * its round cap record. Only matches with {@link com.lefpap.gamestate.ScoringRule#isStandard() standard}
+ * scoring are recorded, so scores are not.
+ * </p>
+ */
+final class JournalFormat {
+
+    static final int RECORD_SIZE = 16;
+
+    static final byte MATCH_START = 0;
+    static final byte ROUND = 1;
+    static final byte ROUND_CAP = 2;
+
+    static final byte FIRST_TO = 0;
+    static final byte BEST_OF = 1;
+    static final byte WIN_BY_TWO = 2;
+
+    static final int TYPE_OFFSET = 0;
+    static final int PLAYER_ONE_CHOICE_OFFSET = 1;
+    static final int POLICY_KIND_OFFSET = 1;
+    static final int PLAYER_TWO_CHOICE_OFFSET = 2;
+    static final int CHOICES_OFFSET = 3;
+    static final int VALUE_OFFSET = 4;
+    static final int MATCH_ID_OFFSET = 8;
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private JournalFormat() {
+    }
+
+    static byte encodeChoices(RuleSet rules) {
+        return (byte) (rules.size() - 1);
+    }
+
+    static int decodeChoices(byte encoded) {
+        return (encoded & 0xFF) + 1;
+    }
+
+    static byte encodeKind(MatchEndPolicy.Kind kind) {
+        return switch (kind) {
+            case FIRST_TO -> FIRST_TO;
+            case BEST_OF -> BEST_OF;
+            case WIN_BY_TWO -> WIN_BY_TWO;
+        };
+    }
+
+    static MatchEndPolicy.Kind decodeKind(byte encoded) {
+        return switch (encoded) {
+            case FIRST_TO -> MatchEndPolicy.Kind.FIRST_TO;
+            case BEST_OF -> MatchEndPolicy.Kind.BEST_OF;
+            case WIN_BY_TWO -> MatchEndPolicy.Kind.WIN_BY_TWO;
+            default -> throw new IllegalStateException("Unknown end policy kind: %d".formatted(encoded));
+        };
+    }
+
+    /**
+     * Gets a rule set resolving rounds like the rule set of a recorded match. Only the number of
+     * choices is recorded, so the names of the choices are those of the classic rules or of
+     * {@link RuleSet#cyclic(int)}.
+     */
+    static RuleSet ruleSetOf(int choices) {
+        return choices == RuleSet.classic().size() ? RuleSet.classic() : RuleSet.cyclic(choices);
+    }
+
+    static Path segmentPath(Path directory, int segmentIndex) {
+        return directory.resolve("%s%08d%s".formatted(SEGMENT_PREFIX, segmentIndex, SEGMENT_SUFFIX));
+    }
+
+    static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    static int segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
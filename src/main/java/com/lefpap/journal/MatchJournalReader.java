@@ -0,0 +1,179 @@
+package com.lefpap.journal;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.RuleSet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads a match journal through memory-mapped segments.
+ *
+ * <p>
+ * Every segment present when the reader is opened is mapped read-only. Scans read the fixed-size
+ * records in place and hand them to a {@link RoundRecordVisitor} as primitives, so scanning
+ * millions of matches allocates nothing per record. A trailing partial record, as left by a crash
+ * in the middle of a write, is ignored.
+ * </p>
+ */
+public class MatchJournalReader implements Closeable {
+
+    private final List<MappedByteBuffer> segments;
+
+    /**
+     * Opens a reader on the specified journal directory.
+     *
+     * @param directory the journal directory
+     * @throws IOException if the segments cannot be listed or mapped
+     */
+    public MatchJournalReader(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(JournalFormat::isSegment)
+                .sorted(Comparator.comparingInt(JournalFormat::segmentIndex))
+                .toList();
+        }
+
+        this.segments = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size() - channel.size() % JournalFormat.RECORD_SIZE;
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                segments.add(segment);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of complete records in the journal.
+     *
+     * @return the number of records
+     */
+    public long getRecordCount() {
+        long records = 0;
+        for (MappedByteBuffer segment : segments) {
+            records += segment.limit() / JournalFormat.RECORD_SIZE;
+        }
+        return records;
+    }
+
+    /**
+     * Visits every round record of the journal, in the order they were written, whatever the rule set
+     * of its match. Choice indexes then refer to different rule sets; use {@link #scan(RuleSet, RoundRecordVisitor)}
+     * to only visit the rounds of one of them.
+     *
+     * @param visitor the visitor receiving the round records
+     */
+    public void scan(RoundRecordVisitor visitor) {
+        scan(0, visitor);
+    }
+
+    /**
+     * Visits the round records of the matches played with rule sets of the same size as the specified one,
+     * in the order they were written.
+     *
+     * @param rules the rule set whose rounds are visited
+     * @param visitor the visitor receiving the round records
+     */
+    public void scan(RuleSet rules, RoundRecordVisitor visitor) {
+        scan(rules.size(), visitor);
+    }
+
+    private void scan(int choices, RoundRecordVisitor visitor) {
+        for (MappedByteBuffer segment : segments) {
+            int limit = segment.limit();
+            for (int offset = 0; offset < limit; offset += JournalFormat.RECORD_SIZE) {
+                if (segment.get(offset + JournalFormat.TYPE_OFFSET) != JournalFormat.ROUND) {
+                    continue;
+                }
+                int recordChoices = JournalFormat.decodeChoices(segment.get(offset + JournalFormat.CHOICES_OFFSET));
+                if (choices != 0 && recordChoices != choices) {
+                    continue;
+                }
+                visitor.visit(
+                    segment.getLong(offset + JournalFormat.MATCH_ID_OFFSET),
+                    segment.getInt(offset + JournalFormat.VALUE_OFFSET),
+                    segment.get(offset + JournalFormat.PLAYER_ONE_CHOICE_OFFSET) & 0xFF,
+                    segment.get(offset + JournalFormat.PLAYER_TWO_CHOICE_OFFSET) & 0xFF
+                );
+            }
+        }
+    }
+
+    /**
+     * Replays a recorded match into a new {@link GameState}.
+     *
+     * <p>
+     * The journal is scanned for the start record of the match and all of its rounds, which are
+     * played in order on a game state with the recorded end policy. This is a linear scan over
+     * the whole journal.
+     * </p>
+     *
+     * <p>
+     * Only the number of choices of the rule set is recorded, which is enough to resolve the rounds:
+     * the game state is played with the {@link RuleSet#classic() classic} rules for three choices,
+     * and with {@link RuleSet#cyclic(int)} otherwise.
+     * </p>
+     *
+     * @param matchId the id of the match to replay
+     * @return an {@link Optional} containing the replayed {@link GameState},
+     * or an empty {@link Optional} if the journal holds no start record for the match
+     */
+    public Optional<GameState> replay(long matchId) {
+        GameState gameState = null;
+        for (MappedByteBuffer segment : segments) {
+            int limit = segment.limit();
+            for (int offset = 0; offset < limit; offset += JournalFormat.RECORD_SIZE) {
+                if (segment.getLong(offset + JournalFormat.MATCH_ID_OFFSET) != matchId) {
+                    continue;
+                }
+
+                byte type = segment.get(offset + JournalFormat.TYPE_OFFSET);
+                if (type == JournalFormat.MATCH_START) {
+                    RuleSet rules = JournalFormat.ruleSetOf(
+                        JournalFormat.decodeChoices(segment.get(offset + JournalFormat.CHOICES_OFFSET)));
+                    MatchEndPolicy.Spec endPolicy = new MatchEndPolicy.Spec(
+                        JournalFormat.decodeKind(segment.get(offset + JournalFormat.POLICY_KIND_OFFSET)),
+                        segment.getInt(offset + JournalFormat.VALUE_OFFSET),
+                        0
+                    );
+                    gameState = new GameState(rules, endPolicy.toPolicy(), true, MatchEventSink.NONE);
+                } else if (type == JournalFormat.ROUND_CAP && gameState != null) {
+                    // Written together with the start record, before any round was played
+                    MatchEndPolicy capped = gameState.getEndPolicy()
+                        .withRoundCap(segment.getInt(offset + JournalFormat.VALUE_OFFSET));
+                    gameState = new GameState(gameState.getRuleSet(), capped, true, MatchEventSink.NONE);
+                } else if (type == JournalFormat.ROUND && gameState != null) {
+                    gameState.playRound(
+                        segment.get(offset + JournalFormat.PLAYER_ONE_CHOICE_OFFSET) & 0xFF,
+                        segment.get(offset + JournalFormat.PLAYER_TWO_CHOICE_OFFSET) & 0xFF
+                    );
+                }
+            }
+        }
+        return Optional.ofNullable(gameState);
+    }
+
+    /**
+     * Releases the reader's references to the mapped segments.
+     * The mappings themselves are unmapped once they are garbage collected.
+     */
+    @Override
+    public void close() {
+        segments.clear();
+    }
+}
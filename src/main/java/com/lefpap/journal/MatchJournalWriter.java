@@ -0,0 +1,219 @@
+package com.lefpap.journal;
+
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.player.PlayerChoice;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+/**
+ * Appends match records to the segment files of a journal directory.
+ *
+ * <p>
+ * Records are collected in a direct buffer and written to the current segment through a
+ * {@link FileChannel} when the buffer is full, on {@link #flush()} and on {@link #close()}.
+ * Once a segment holds the configured number of records, a new segment is started. Opening a
+ * writer on an existing journal never modifies existing segments: writing continues in a
+ * new segment after the last one. See {@link JournalFormat} for the record layout.
+ * </p>
+ *
+ * <p>
+ * All append methods are synchronized, so a single writer can be shared by concurrent matches.
+ * </p>
+ */
+public class MatchJournalWriter implements Closeable {
+
+    /**
+     * The default number of records per segment (16 MiB segments).
+     */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+
+    private static final int BUFFER_RECORDS = 4096;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private int segmentIndex;
+    private int segmentRecords;
+
+    /**
+     * Opens a writer on the specified journal directory using the
+     * {@link #DEFAULT_RECORDS_PER_SEGMENT default} segment size.
+     *
+     * @param directory the journal directory, created if it does not exist
+     * @throws IOException if the directory or the first segment cannot be created
+     */
+    public MatchJournalWriter(Path directory) throws IOException {
+        this(directory, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    /**
+     * Opens a writer on the specified journal directory.
+     *
+     * @param directory the journal directory, created if it does not exist
+     * @param recordsPerSegment the number of records after which a new segment is started
+     * @throws IOException if the directory or the first segment cannot be created
+     * @throws IllegalArgumentException if {@code recordsPerSegment} is not positive
+     */
+    public MatchJournalWriter(Path directory, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment <= 0) {
+            throw new IllegalArgumentException("Records per segment must be positive: %d".formatted(recordsPerSegment));
+        }
+
+        this.directory = Files.createDirectories(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * JournalFormat.RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            this.segmentIndex = files.filter(JournalFormat::isSegment)
+                .mapToInt(JournalFormat::segmentIndex)
+                .max()
+                .orElse(-1);
+        }
+        openNextSegment();
+    }
+
+    /**
+     * Appends the start of a first-to match played with the {@link RuleSet#classic() classic} rules.
+     *
+     * @param matchId the id of the match
+     * @param scoreToWin the score a player must reach to win the match
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void appendMatchStart(long matchId, int scoreToWin) throws IOException {
+        MatchEndPolicy.Spec endPolicy = new MatchEndPolicy.Spec(MatchEndPolicy.Kind.FIRST_TO, scoreToWin, 0);
+        appendMatchStart(matchId, RuleSet.classic(), endPolicy);
+    }
+
+    /**
+     * Appends the start of a match played with the specified rule set and end policy.
+     *
+     * @param matchId the id of the match
+     * @param rules the rule set of the match
+     * @param endPolicy the description of the end policy of the match
+     * @throws IOException if the records cannot be written
+     */
+    public synchronized void appendMatchStart(long matchId, RuleSet rules, MatchEndPolicy.Spec endPolicy)
+        throws IOException {
+        byte kind = JournalFormat.encodeKind(endPolicy.kind());
+        append(JournalFormat.MATCH_START, rules, kind, 0, endPolicy.value(), matchId);
+        if (endPolicy.maxRounds() != 0) {
+            append(JournalFormat.ROUND_CAP, rules, 0, 0, endPolicy.maxRounds(), matchId);
+        }
+    }
+
+    /**
+     * Appends a played round.
+     *
+     * @param matchId the id of the match
+     * @param roundIndex the index of the round, starting from 1
+     * @param playerOneChoice the choice made by Player One
+     * @param playerTwoChoice the choice made by Player Two
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void appendRound(
+        long matchId,
+        int roundIndex,
+        PlayerChoice playerOneChoice,
+        PlayerChoice playerTwoChoice
+    ) throws IOException {
+        appendRound(matchId, roundIndex, RuleSet.classic(), playerOneChoice.ordinal(), playerTwoChoice.ordinal());
+    }
+
+    /**
+     * Appends a played round by the choice indexes of its rule set.
+     *
+     * @param matchId the id of the match
+     * @param roundIndex the index of the round, starting from 1
+     * @param rules the rule set of the match
+     * @param playerOneChoice the index of the choice made by Player One
+     * @param playerTwoChoice the index of the choice made by Player Two
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void appendRound(
+        long matchId,
+        int roundIndex,
+        RuleSet rules,
+        int playerOneChoice,
+        int playerTwoChoice
+    ) throws IOException {
+        append(JournalFormat.ROUND, rules, playerOneChoice, playerTwoChoice, roundIndex, matchId);
+    }
+
+    /**
+     * Writes all buffered records to the current segment.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes all buffered records and forces them to the storage device.
+     *
+     * @throws IOException if the records cannot be written or forced
+     */
+    public synchronized void sync() throws IOException {
+        flush();
+        channel.force(false);
+    }
+
+    /**
+     * Writes all buffered records and closes the current segment.
+     *
+     * @throws IOException if the records cannot be written or the segment cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void append(byte type, RuleSet rules, int playerOneChoice, int playerTwoChoice, int value, long matchId)
+        throws IOException {
+        if (segmentRecords == recordsPerSegment) {
+            flush();
+            channel.close();
+            openNextSegment();
+        }
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+
+        buffer.put(type)
+            .put((byte) playerOneChoice)
+            .put((byte) playerTwoChoice)
+            .put(JournalFormat.encodeChoices(rules))
+            .putInt(value)
+            .putLong(matchId);
+        segmentRecords++;
+    }
+
+    private void openNextSegment() throws IOException {
+        segmentIndex++;
+        segmentRecords = 0;
+        channel = FileChannel.open(
+            JournalFormat.segmentPath(directory, segmentIndex),
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        );
+    }
+}
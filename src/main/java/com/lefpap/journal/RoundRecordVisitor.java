@@ -0,0 +1,24 @@
+package com.lefpap.journal;
+
+/**
+ * Receives the round records of a journal scan as primitive values.
+ *
+ * <p>
+ * Choices are passed as indexes of the {@link com.lefpap.gamestate.RuleSet rule set} of their match,
+ * which are {@link com.lefpap.player.PlayerChoice} ordinals for the classic rules, so a scan
+ * deserializes nothing into objects.
+ * </p>
+ */
+@FunctionalInterface
+public interface RoundRecordVisitor {
+
+    /**
+     * Visits a single round record.
+     *
+     * @param matchId the id of the match the round belongs to
+     * @param roundIndex the index of the round, starting from 1
+     * @param playerOneChoice the index of the choice made by Player One
+     * @param playerTwoChoice the index of the choice made by Player Two
+     */
+    void visit(long matchId, int roundIndex, int playerOneChoice, int playerTwoChoice);
+}
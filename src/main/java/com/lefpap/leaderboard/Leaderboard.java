@@ -0,0 +1,209 @@
+package com.lefpap.leaderboard;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A process-wide leaderboard of round wins, losses and draws, per player name and per {@link PlayerChoice}.
+ *
+ * <p>
+ * Every count is a striped {@link LongAdder}, so any number of matches can record rounds concurrently
+ * without a shared lock: threads updating the same player contend on separate cells. Matches feed the
+ * leaderboard through a {@link #sinkFor(String, String) sink}, which resolves the counters of both
+ * players once, when the match is set up, so recording a round is a handful of increments.
+ * </p>
+ *
+ * <p>
+ * Queries never block the writers. {@link #topK(int)} reads every player once into an immutable
+ * {@link LeaderboardEntry} and ranks that snapshot, so the returned list is always consistently ordered,
+ * even while rounds are being recorded. Rounds recorded during the query may or may not be included.
+ * Players are ranked by wins, then by fewest losses, then by name.
+ * </p>
+ */
+public class Leaderboard {
+
+    /**
+     * The order of the leaderboard, best first.
+     */
+    public static final Comparator<LeaderboardEntry> RANKING = Comparator
+        .comparingLong(LeaderboardEntry::wins).reversed()
+        .thenComparingLong(LeaderboardEntry::losses)
+        .thenComparing(LeaderboardEntry::name);
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    private final ConcurrentMap<String, Counters> players = new ConcurrentHashMap<>();
+    private final Counters[] choices = new Counters[CHOICES.length];
+
+    /**
+     * Constructs a new, empty {@code Leaderboard}.
+     */
+    public Leaderboard() {
+        for (int choice = 0; choice < choices.length; choice++) {
+            choices[choice] = new Counters();
+        }
+    }
+
+    /**
+     * Creates a sink recording every round of a match between the specified players.
+     *
+     * <p>
+     * Combine it with the other sinks of the match through {@link MatchEventSink#of(MatchEventSink...)}.
+     * The choice statistics are only recorded for matches played with the classic rules.
+     * </p>
+     *
+     * @param playerOne the name of Player One
+     * @param playerTwo the name of Player Two
+     * @return the sink of the match
+     */
+    public MatchEventSink sinkFor(String playerOne, String playerTwo) {
+        Counters one = countersOf(playerOne);
+        Counters two = countersOf(playerTwo);
+        return new MatchEventSink() {
+            @Override
+            public void onRoundResolved(MatchView match) {
+                RoundResult result = match.getLastResult();
+                record(one, two, result);
+                if (match.getRuleSet().isClassic()) {
+                    int playerOneChoice = match.getLastChoiceIndex(PlayerIndex.PLAYER_ONE);
+                    int playerTwoChoice = match.getLastChoiceIndex(PlayerIndex.PLAYER_TWO);
+                    record(choices[playerOneChoice], choices[playerTwoChoice], result);
+                }
+            }
+        };
+    }
+
+    /**
+     * Records a single round.
+     *
+     * @param playerOne the name of Player One
+     * @param playerTwo the name of Player Two
+     * @param playerOneChoice the choice made by Player One
+     * @param playerTwoChoice the choice made by Player Two
+     */
+    public void recordRound(
+        String playerOne,
+        String playerTwo,
+        PlayerChoice playerOneChoice,
+        PlayerChoice playerTwoChoice
+    ) {
+        RoundResult result = RoundResult.of(playerOneChoice, playerTwoChoice);
+        record(countersOf(playerOne), countersOf(playerTwo), result);
+        record(choices[playerOneChoice.ordinal()], choices[playerTwoChoice.ordinal()], result);
+    }
+
+    /**
+     * Gets the best players of the leaderboard.
+     *
+     * <p>
+     * The players are selected with a bounded heap, in time {@code O(n log k)} for {@code n} players.
+     * </p>
+     *
+     * @param k the maximum number of players to return
+     * @return up to {@code k} entries, ranked best first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<LeaderboardEntry> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of entries must not be negative: %d".formatted(k));
+        }
+        if (k == 0) {
+            return List.of();
+        }
+
+        // A heap of the k best entries seen so far, with the worst of them on top
+        PriorityQueue<LeaderboardEntry> best = new PriorityQueue<>(Math.min(k, 1_024) + 1, RANKING.reversed());
+        players.forEach((name, counters) -> {
+            best.add(counters.snapshot(name));
+            if (best.size() > k) {
+                best.poll();
+            }
+        });
+
+        List<LeaderboardEntry> top = new ArrayList<>(best);
+        top.sort(RANKING);
+        return top;
+    }
+
+    /**
+     * Gets the statistics of a player.
+     *
+     * @param player the name of the player
+     * @return an {@link Optional} containing the entry of the player,
+     *         or an empty {@link Optional} if they have not played any recorded round
+     */
+    public Optional<LeaderboardEntry> getEntry(String player) {
+        Counters counters = players.get(player);
+        return counters == null ? Optional.empty() : Optional.of(counters.snapshot(player));
+    }
+
+    /**
+     * Gets the statistics of every choice, counting a round once for each side. A round in which
+     * both players made the same choice counts as two draws of that choice.
+     *
+     * @return one entry per choice, named after it, in {@link PlayerChoice#ordinal() ordinal} order
+     */
+    public List<LeaderboardEntry> choiceEntries() {
+        List<LeaderboardEntry> entries = new ArrayList<>(CHOICES.length);
+        for (PlayerChoice choice : CHOICES) {
+            entries.add(choices[choice.ordinal()].snapshot(choice.name()));
+        }
+        return entries;
+    }
+
+    /**
+     * Gets the number of players on the leaderboard.
+     *
+     * @return the number of players who have played at least one recorded round
+     */
+    public int size() {
+        return players.size();
+    }
+
+    private Counters countersOf(String player) {
+        Counters counters = players.get(player);
+        return counters != null ? counters : players.computeIfAbsent(player, p -> new Counters());
+    }
+
+    private static void record(Counters one, Counters two, RoundResult result) {
+        switch (result) {
+            case PLAYER_ONE_WINS -> {
+                one.wins.increment();
+                two.losses.increment();
+            }
+            case PLAYER_TWO_WINS -> {
+                one.losses.increment();
+                two.wins.increment();
+            }
+            case DRAW -> {
+                one.draws.increment();
+                two.draws.increment();
+            }
+        }
+    }
+
+    /**
+     * The counters of a single player or choice.
+     */
+    private static final class Counters {
+        private final LongAdder wins = new LongAdder();
+        private final LongAdder losses = new LongAdder();
+        private final LongAdder draws = new LongAdder();
+
+        LeaderboardEntry snapshot(String name) {
+            return new LeaderboardEntry(name, wins.sum(), losses.sum(), draws.sum());
+        }
+    }
+}
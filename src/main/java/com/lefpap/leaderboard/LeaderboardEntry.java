@@ -0,0 +1,31 @@
+package com.lefpap.leaderboard;
+
+/**
+ * The round statistics of a player (or a choice) at the time a {@link Leaderboard} was read.
+ *
+ * @param name the name of the player or the choice
+ * @param wins the number of rounds won
+ * @param losses the number of rounds lost
+ * @param draws the number of rounds drawn
+ */
+public record LeaderboardEntry(String name, long wins, long losses, long draws) {
+
+    /**
+     * Gets the total number of rounds played.
+     *
+     * @return the number of rounds won, lost or drawn
+     */
+    public long rounds() {
+        return wins + losses + draws;
+    }
+
+    /**
+     * Gets the fraction of rounds won.
+     *
+     * @return the win rate, or {@code 0} if no rounds were played
+     */
+    public double winRate() {
+        long rounds = rounds();
+        return rounds == 0 ? 0 : (double) wins / rounds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.lefpap.metrics;
+
+import com.lefpap.event.EventCounter;
+import com.lefpap.gamestate.RoundResult;
+
+/**
+ * A sink that counts match events in a {@link MetricsRegistry}.
+ *
+ * <p>
+ * The counters are {@code matches.started}, {@code matches.finished}, {@code rounds} and one
+ * {@code rounds.<result>} counter per {@link RoundResult}, counted as by an {@link EventCounter}.
+ * They are resolved once, when the sink is created, so counting an event is a single striped
+ * increment. A sink can be shared by any number of matches running on any number of threads.
+ * </p>
+ */
+public class MetricsEventSink extends EventCounter {
+
+    /**
+     * Constructs a new {@code MetricsEventSink} counting into the specified registry.
+     *
+     * @param registry the registry holding the counters
+     */
+    public MetricsEventSink(MetricsRegistry registry) {
+        super(registry::counter);
+    }
+}
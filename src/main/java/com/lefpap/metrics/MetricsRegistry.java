@@ -0,0 +1,173 @@
+package com.lefpap.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of named metrics: counters, gauges and latency histograms.
+ *
+ * <p>
+ * Counters are {@link LongAdder}s, which stripe their updates across cells under contention,
+ * so hot paths such as round resolution can increment them from many threads at negligible cost.
+ * Metrics are created on first use and live as long as the registry; look them up once and keep
+ * the reference rather than resolving the name on every update.
+ * </p>
+ *
+ * <p>
+ * The registry can be published over JMX with {@link #registerMBean(String)}, where every metric
+ * becomes a read-only attribute, and dumped as text, either on demand with {@link #dump()} or
+ * periodically with {@link #startDumping(PrintStream, Duration)}.
+ * </p>
+ */
+public class MetricsRegistry implements AutoCloseable {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastDumpedCounts = new ConcurrentHashMap<>();
+    private volatile long lastDumpNanos = System.nanoTime();
+    private ScheduledExecutorService dumper;
+    private ObjectName objectName;
+
+    /**
+     * Gets the counter with the specified name, creating it if needed.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Gets the latency histogram with the specified name, creating it if needed.
+     *
+     * @param name the name of the histogram
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Registers a gauge, whose value is read from the specified supplier whenever it is reported.
+     * A gauge registered under an existing name replaces the previous one.
+     *
+     * @param name the name of the gauge
+     * @param value the supplier of the current value, e.g. {@code host::getActiveSessions}
+     */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Reads the current values of all counters and gauges, and the statistics of all histograms,
+     * as a flat, name-sorted map. Histograms contribute {@code <name>.count}, {@code <name>.mean},
+     * {@code <name>.p50}, {@code <name>.p99} and {@code <name>.max}, in nanoseconds.
+     *
+     * @return the current values of all metrics
+     */
+    public Map<String, Number> snapshot() {
+        Map<String, Number> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        histograms.forEach((name, histogram) -> {
+            values.put(name + ".count", histogram.getCount());
+            values.put(name + ".mean", histogram.getMean());
+            values.put(name + ".p50", histogram.getPercentile(50));
+            values.put(name + ".p99", histogram.getPercentile(99));
+            values.put(name + ".max", histogram.getMax());
+        });
+        return values;
+    }
+
+    /**
+     * Formats all metrics as text, one per line. Counters are followed by their rate per second
+     * since the previous dump.
+     *
+     * @return the formatted metrics
+     */
+    public synchronized String dump() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - lastDumpNanos) / 1e9);
+        lastDumpNanos = now;
+
+        StringBuilder text = new StringBuilder();
+        snapshot().forEach((name, value) -> {
+            text.append(name).append(' ').append(value);
+            LongAdder counter = counters.get(name);
+            if (counter != null) {
+                long previous = lastDumpedCounts.getOrDefault(name, 0L);
+                lastDumpedCounts.put(name, value.longValue());
+                text.append(" (%.1f/s)".formatted((value.longValue() - previous) / seconds));
+            }
+            text.append(System.lineSeparator());
+        });
+        return text.toString();
+    }
+
+    /**
+     * Starts printing a {@link #dump()} of all metrics at a fixed rate, on a daemon thread.
+     *
+     * @param out the stream to print to
+     * @param period the time between two dumps
+     * @throws IllegalStateException if the registry is already being dumped
+     */
+    public synchronized void startDumping(PrintStream out, Duration period) {
+        if (dumper != null) {
+            throw new IllegalStateException("Metrics are already being dumped");
+        }
+
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = period.toNanos();
+        dumper.scheduleAtFixedRate(() -> out.print(dump()), nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Publishes the registry to the platform MBean server, with every metric as a read-only attribute.
+     *
+     * @param name the JMX object name, e.g. {@code "com.lefpap:type=Metrics"}
+     * @throws JMException if the name is malformed or already registered
+     */
+    public synchronized void registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName(name);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new MetricsMBean(this), objectName);
+        this.objectName = objectName;
+    }
+
+    /**
+     * Stops the periodic dump and unregisters the MBean, if any.
+     */
+    @Override
+    public synchronized void close() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+            dumper = null;
+        }
+        if (objectName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                // Already unregistered
+            }
+            objectName = null;
+        }
+    }
+}
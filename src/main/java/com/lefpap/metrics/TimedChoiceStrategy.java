@@ -0,0 +1,70 @@
+package com.lefpap.metrics;
+
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+
+/**
+ * A strategy decorator that records how long the decorated strategy takes to make each choice.
+ *
+ * <p>
+ * The latency of every {@code makeChoice} call is recorded in a {@link LatencyHistogram}, which makes
+ * slow strategies (remote players, expensive models) visible while matches are running. The decorator
+ * is never {@link PlayerChoiceStrategy#isStateless() stateless}, so choices keep being made and timed
+ * one round at a time.
+ * </p>
+ */
+public class TimedChoiceStrategy implements PlayerChoiceStrategy {
+
+    private final PlayerChoiceStrategy strategy;
+    private final LatencyHistogram latency;
+
+    /**
+     * Constructs a new {@code TimedChoiceStrategy}.
+     *
+     * @param strategy the strategy to time
+     * @param latency the histogram receiving the latencies
+     */
+    public TimedChoiceStrategy(PlayerChoiceStrategy strategy, LatencyHistogram latency) {
+        this.strategy = strategy;
+        this.latency = latency;
+    }
+
+    /**
+     * Constructs a new {@code TimedChoiceStrategy} recording into the histogram
+     * {@code strategy.<name>.makeChoice} of the specified registry.
+     *
+     * @param strategy the strategy to time
+     * @param registry the registry holding the histogram
+     * @param name the name of the strategy in the metrics
+     */
+    public TimedChoiceStrategy(PlayerChoiceStrategy strategy, MetricsRegistry registry, String name) {
+        this(strategy, registry.histogram("strategy.%s.makeChoice".formatted(name)));
+    }
+
+    @Override
+    public PlayerChoice makeChoice() {
+        long start = System.nanoTime();
+        try {
+            return strategy.makeChoice();
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public PlayerChoice makeChoice(MatchView match, PlayerIndex self) {
+        long start = System.nanoTime();
+        try {
+            return strategy.makeChoice(match, self);
+        } finally {
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void onRoundResolved(MatchView match, PlayerIndex self) {
+        strategy.onRoundResolved(match, self);
+    }
+}
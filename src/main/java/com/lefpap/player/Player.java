@@ -1,5 +1,6 @@
 package com.lefpap.player;
 
+import com.lefpap.gamestate.MatchView;
 import com.lefpap.player.strategy.PlayerChoiceStrategy;
 
 /**
@@ -36,6 +37,27 @@ public class Player {
         return choiceStrategy.makeChoice();
     }
 
+    /**
+     * Makes a choice for this player with access to the match in progress.
+     *
+     * @param match a read-only view of the match
+     * @param self the index of this player in the match
+     * @return the choice made by the player
+     */
+    public PlayerChoice makeChoice(MatchView match, PlayerIndex self) {
+        return choiceStrategy.makeChoice(match, self);
+    }
+
+    /**
+     * Notifies the player's {@link PlayerChoiceStrategy} about the outcome of a round.
+     *
+     * @param match a read-only view of the match, already including the resolved round
+     * @param self the index of this player in the match
+     */
+    public void onRoundResolved(MatchView match, PlayerIndex self) {
+        choiceStrategy.onRoundResolved(match, self);
+    }
+
     /**
      * Gets the name of the player.
      *
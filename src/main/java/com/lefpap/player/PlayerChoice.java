@@ -1,9 +1,10 @@
 package com.lefpap.player;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Random;
-import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
 
 /**
  * Enum representing the possible choices a player can make in the game.
@@ -13,6 +14,37 @@ public enum PlayerChoice {
     PAPER("p"),
     SCISSORS("x");
 
+    private static final PlayerChoice[] CHOICES = values();
+    private static final int ASCII = 128;
+
+    /**
+     * The choices whose name or alias starts with a given lower-case ASCII character, indexed by that character.
+     */
+    private static final PlayerChoice[][] CANDIDATES = new PlayerChoice[ASCII][];
+
+    /**
+     * One shared {@link Optional} per choice, indexed by ordinal, so that {@link #of(String)} allocates nothing.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Optional<PlayerChoice>[] OPTIONALS = new Optional[CHOICES.length];
+
+    static {
+        for (PlayerChoice choice : CHOICES) {
+            OPTIONALS[choice.ordinal()] = Optional.of(choice);
+            for (String token : new String[]{choice.name(), choice.alias}) {
+                int first = toLowerAscii(token.charAt(0));
+                PlayerChoice[] candidates = CANDIDATES[first];
+                if (candidates == null) {
+                    CANDIDATES[first] = new PlayerChoice[]{choice};
+                } else if (!Arrays.asList(candidates).contains(choice)) {
+                    PlayerChoice[] grown = Arrays.copyOf(candidates, candidates.length + 1);
+                    grown[candidates.length] = choice;
+                    CANDIDATES[first] = grown;
+                }
+            }
+        }
+    }
+
     private final String alias;
 
     PlayerChoice(String alias) {
@@ -30,11 +62,76 @@ public enum PlayerChoice {
      * @param value the string representation of the choice
      * @return an {@link Optional} containing the corresponding {@code PlayerChoice},
      *         or an empty {@link Optional} if no match is found
+     * @see #parse(CharSequence, int, int)
      */
     public static Optional<PlayerChoice> of(String value) {
-        return Arrays.stream(PlayerChoice.values())
-            .filter(isMatchingNameOrAlias(value))
-            .findAny();
+        if (value == null) {
+            return Optional.empty();
+        }
+        PlayerChoice choice = parse(value, 0, value.length());
+        return choice == null ? Optional.empty() : OPTIONALS[choice.ordinal()];
+    }
+
+    /**
+     * Parses a region of a character sequence into a {@code PlayerChoice}, without allocating.
+     *
+     * <p>
+     * The region must match the name or the alias of a choice, ignoring the case of ASCII letters.
+     * Candidates are looked up by the first character of the region, so at most a handful of
+     * comparisons are made whatever the input.
+     * </p>
+     *
+     * @param value the characters to parse
+     * @param start the index of the first character of the region
+     * @param end the index after the last character of the region
+     * @return the corresponding {@code PlayerChoice}, or {@code null} if no match is found
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code value}
+     */
+    public static PlayerChoice parse(CharSequence value, int start, int end) {
+        Objects.checkFromToIndex(start, end, value.length());
+        if (start == end || value.charAt(start) >= ASCII) {
+            return null;
+        }
+
+        PlayerChoice[] candidates = CANDIDATES[toLowerAscii(value.charAt(start))];
+        if (candidates == null) {
+            return null;
+        }
+        for (PlayerChoice candidate : candidates) {
+            if (matches(candidate.name(), value, start, end) || matches(candidate.alias, value, start, end)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a region of ASCII bytes into a {@code PlayerChoice}, without allocating and without
+     * changing the position of the buffer.
+     *
+     * @param buffer the bytes to parse
+     * @param start the absolute index of the first byte of the region
+     * @param end the absolute index after the last byte of the region
+     * @return the corresponding {@code PlayerChoice}, or {@code null} if no match is found
+     * @throws IndexOutOfBoundsException if the region is out of the bounds of {@code buffer}
+     * @see #parse(CharSequence, int, int)
+     */
+    public static PlayerChoice parse(ByteBuffer buffer, int start, int end) {
+        Objects.checkFromToIndex(start, end, buffer.limit());
+        if (start == end || (buffer.get(start) & 0xFF) >= ASCII) {
+            return null;
+        }
+
+        PlayerChoice[] candidates = CANDIDATES[toLowerAscii(buffer.get(start) & 0xFF)];
+        if (candidates == null) {
+            return null;
+        }
+        for (PlayerChoice candidate : candidates) {
+            if (matches(candidate.name(), buffer, start, end) || matches(candidate.alias, buffer, start, end)) {
+                return candidate;
+            }
+        }
+        return null;
     }
 
     /**
@@ -43,9 +140,8 @@ public enum PlayerChoice {
      * @param rnd the random number generator to use
      * @return a randomly selected {@code PlayerChoice}
      */
-    public static PlayerChoice random(Random rnd) {
-        PlayerChoice[] choices = values();
-        return choices[rnd.nextInt(choices.length)];
+    public static PlayerChoice random(RandomGenerator rnd) {
+        return CHOICES[rnd.nextInt(CHOICES.length)];
     }
 
     /**
@@ -62,6 +158,19 @@ public enum PlayerChoice {
         };
     }
 
+    /**
+     * Returns the choice that beats this choice.
+     *
+     * @return the {@code PlayerChoice} that beats this choice
+     */
+    public PlayerChoice counter() {
+        return switch (this) {
+            case ROCK -> PAPER;
+            case PAPER -> SCISSORS;
+            case SCISSORS -> ROCK;
+        };
+    }
+
     /**
      * Gets the alias of this choice.
      *
@@ -71,7 +180,31 @@ public enum PlayerChoice {
         return alias;
     }
 
-    private static Predicate<PlayerChoice> isMatchingNameOrAlias(String value) {
-        return choice -> choice.alias.equalsIgnoreCase(value) || choice.name().equalsIgnoreCase(value);
+    private static boolean matches(String token, CharSequence value, int start, int end) {
+        if (token.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (toLowerAscii(token.charAt(i)) != toLowerAscii(value.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String token, ByteBuffer buffer, int start, int end) {
+        if (token.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (toLowerAscii(token.charAt(i)) != toLowerAscii(buffer.get(start + i) & 0xFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int toLowerAscii(int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
     }
 }
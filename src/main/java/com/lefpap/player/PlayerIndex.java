@@ -10,5 +10,17 @@ package com.lefpap.player;
  */
 public enum PlayerIndex {
     PLAYER_ONE,
-    PLAYER_TWO
+    PLAYER_TWO;
+
+    /**
+     * Returns the index of the opposing player.
+     *
+     * @return the other {@code PlayerIndex}
+     */
+    public PlayerIndex opponent() {
+        return switch (this) {
+            case PLAYER_ONE -> PLAYER_TWO;
+            case PLAYER_TWO -> PLAYER_ONE;
+        };
+    }
 }
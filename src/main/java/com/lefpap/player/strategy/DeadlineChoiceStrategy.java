@@ -0,0 +1,142 @@
+package com.lefpap.player.strategy;
+
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A strategy decorator that gives the decorated strategy a deadline for every choice.
+ *
+ * <p>
+ * Each choice is made on a virtual thread while the caller waits up to the deadline. If the decorated
+ * strategy does not answer in time, its call is cancelled by interrupting its thread and the choice of
+ * the fallback strategy is used instead. Decorated strategies that block (human input, remote players)
+ * should therefore respond to interruption, or a late answer may be consumed by the abandoned call.
+ * Failures of the decorated strategy are rethrown as they are.
+ * </p>
+ *
+ * <p>
+ * The decorated strategy is never entered by two threads at once. Until an abandoned call has
+ * actually returned, further choices are made by the fallback strategy right away, and round
+ * results are not passed to the decorated strategy.
+ * </p>
+ */
+public class DeadlineChoiceStrategy implements PlayerChoiceStrategy {
+
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final PlayerChoiceStrategy strategy;
+    private final PlayerChoiceStrategy fallback;
+    private final long timeoutNanos;
+    private final LongAdder timeouts = new LongAdder();
+    private final Semaphore idle = new Semaphore(1);
+
+    /**
+     * Constructs a new {@code DeadlineChoiceStrategy}.
+     *
+     * @param strategy the strategy to give a deadline
+     * @param timeout the time the strategy has for each choice
+     * @param fallback the strategy choosing instead when the deadline is missed
+     * @throws IllegalArgumentException if {@code timeout} is not positive
+     */
+    public DeadlineChoiceStrategy(PlayerChoiceStrategy strategy, Duration timeout, PlayerChoiceStrategy fallback) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive: %s".formatted(timeout));
+        }
+
+        this.strategy = strategy;
+        this.fallback = fallback;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public PlayerChoice makeChoice() {
+        return withDeadline(strategy::makeChoice, fallback::makeChoice);
+    }
+
+    @Override
+    public PlayerChoice makeChoice(MatchView match, PlayerIndex self) {
+        return withDeadline(() -> strategy.makeChoice(match, self), () -> fallback.makeChoice(match, self));
+    }
+
+    @Override
+    public void onRoundResolved(MatchView match, PlayerIndex self) {
+        if (idle.tryAcquire()) {
+            try {
+                strategy.onRoundResolved(match, self);
+            } finally {
+                idle.release();
+            }
+        }
+        fallback.onRoundResolved(match, self);
+    }
+
+    /**
+     * Gets the number of choices made by the fallback strategy, because the deadline was missed
+     * or an earlier call of the decorated strategy was still running.
+     *
+     * @return the number of timed out choices
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    private PlayerChoice withDeadline(Supplier<PlayerChoice> choice, Supplier<PlayerChoice> fallbackChoice) {
+        if (!idle.tryAcquire()) {
+            // A call abandoned at an earlier deadline is still running
+            timeouts.increment();
+            return fallbackChoice.get();
+        }
+
+        // Whichever of the call and its cancellation comes first releases the strategy
+        AtomicBoolean started = new AtomicBoolean();
+        Future<PlayerChoice> future = VIRTUAL_THREADS.submit(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return choice.get();
+            } finally {
+                idle.release();
+            }
+        });
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            cancel(future, started);
+            timeouts.increment();
+            return fallbackChoice.get();
+        } catch (InterruptedException e) {
+            cancel(future, started);
+            Thread.currentThread().interrupt();
+            return fallbackChoice.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Strategy failed to make a choice", e.getCause());
+        }
+    }
+
+    private void cancel(Future<PlayerChoice> future, AtomicBoolean started) {
+        future.cancel(true);
+        if (started.compareAndSet(false, true)) {
+            idle.release();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.lefpap.player.strategy;
 
 import com.lefpap.player.PlayerChoice;
 
+import java.util.Arrays;
+
 /**
  * A strategy that always returns a predefined choice.
  *
@@ -26,4 +28,14 @@ public class ForceChoiceStrategy implements PlayerChoiceStrategy {
     public PlayerChoice makeChoice() {
         return forcedChoice;
     }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
+    @Override
+    public void fillChoices(byte[] buffer, int offset, int length) {
+        Arrays.fill(buffer, offset, offset + length, (byte) forcedChoice.ordinal());
+    }
 }
@@ -2,6 +2,7 @@ package com.lefpap.player.strategy;
 
 import com.lefpap.player.PlayerChoice;
 
+import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Scanner;
@@ -11,25 +12,42 @@ import java.util.stream.Collectors;
  * A choice strategy that prompts the player to input their choice.
  *
  * <p>
- * This implementation uses a {@link Scanner} to read input from the console
- * and validates the input against the available choices in {@link PlayerChoice}.
+ * This implementation uses a {@link Scanner} to read input from the console (or any other
+ * input source) and validates the input against the available choices in {@link PlayerChoice}.
+ * Prompts and validation messages are written to a {@link PrintStream}.
  * </p>
  */
 public class InputChoiceStrategy implements PlayerChoiceStrategy {
 
+    private static final String CHOICES = formatChoices();
+
     private final Scanner scanner;
-    private final String playerName;
+    private final PrintStream out;
+    private final String prompt;
 
     /**
      * Constructs a new {@code InputChoiceStrategy} with the specified {@link Scanner}
-     * and the player's name.
+     * and the player's name, writing prompts to {@link System#out}.
      *
      * @param scanner the scanner used to read input from the console
      * @param playerName the name of the player (used for personalized prompts)
      */
     public InputChoiceStrategy(Scanner scanner, String playerName) {
-        this.playerName = playerName;
+        this(scanner, System.out, playerName);
+    }
+
+    /**
+     * Constructs a new {@code InputChoiceStrategy} with the specified {@link Scanner},
+     * output stream and the player's name.
+     *
+     * @param scanner the scanner used to read the player's input
+     * @param out the stream prompts and messages are written to
+     * @param playerName the name of the player (used for personalized prompts)
+     */
+    public InputChoiceStrategy(Scanner scanner, PrintStream out, String playerName) {
         this.scanner = scanner;
+        this.out = out;
+        this.prompt = "%s make your choice [%s]     :".formatted(playerName, CHOICES);
     }
 
 
@@ -48,12 +66,12 @@ public class InputChoiceStrategy implements PlayerChoiceStrategy {
     public PlayerChoice makeChoice() {
         Optional<PlayerChoice> playerChoice;
         do {
-            System.out.printf("%s make your choice [%s]     :", playerName, formatChoices());
+            out.print(prompt);
             playerChoice = parsePlayerInput(scanner.nextLine().trim());
         } while (playerChoice.isEmpty());
 
         // Add some space for better readability
-        System.out.println();
+        out.println();
 
         return playerChoice.get();
     }
@@ -72,13 +90,13 @@ public class InputChoiceStrategy implements PlayerChoiceStrategy {
      */
     private Optional<PlayerChoice> parsePlayerInput(String input) {
         if (input.isBlank()) {
-            System.out.println("No input entered, please type a choice.");
+            out.println("No input entered, please type a choice.");
             return Optional.empty();
         }
 
         Optional<PlayerChoice> playerChoice = PlayerChoice.of(input);
         if (playerChoice.isEmpty()) {
-            System.out.printf("Invalid player choice: %s%n", input);
+            out.printf("Invalid player choice: %s%n", input);
             return Optional.empty();
         }
 
@@ -87,10 +105,11 @@ public class InputChoiceStrategy implements PlayerChoiceStrategy {
 
     /**
      * Formats the available choices as a string for display in the prompt.
+     * The result is computed once and shared by all prompts.
      *
      * @return a string representation of available choices with their aliases
      */
-    private String formatChoices() {
+    private static String formatChoices() {
         return Arrays.stream(PlayerChoice.values())
             .map(choice -> "%s (%s)".formatted(choice.name(), choice.alias()))
             .collect(Collectors.joining(", "));
@@ -0,0 +1,122 @@
+package com.lefpap.player.strategy;
+
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A choice strategy that models the opponent as an order-k Markov chain.
+ *
+ * <p>
+ * The strategy counts how often the opponent made each choice after every sequence of
+ * their last {@code order} choices (the context). To make a choice, it predicts the
+ * opponent's most frequent follow-up in the current context and plays the choice that
+ * {@link PlayerChoice#counter() counters} it. With an order of {@code 0}, the context is
+ * empty and the strategy simply counters the opponent's most frequent choice overall.
+ * </p>
+ *
+ * <p>
+ * The counts are kept in a flat {@code int[]} indexed by the encoded context, where the
+ * context is the opponent's last {@code order} choices read as a base-3 number. Learning
+ * from a round is a constant-time update that allocates nothing. Until enough rounds have
+ * been observed, or when the model has no data for a context, a random choice is made.
+ * </p>
+ */
+public class MarkovChoiceStrategy implements PlayerChoiceStrategy {
+
+    /**
+     * The highest supported order, which keeps the count table below a million entries.
+     */
+    public static final int MAX_ORDER = 10;
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+
+    private final int order;
+    private final int contexts;
+    private final int[] counts;
+    private final RandomGenerator rnd;
+
+    private int context;
+    private int observedRounds;
+
+    /**
+     * Constructs a new {@code MarkovChoiceStrategy}.
+     *
+     * @param order the number of past opponent choices the prediction is based on
+     * @param rnd the random number generator used when no prediction can be made
+     * @throws IllegalArgumentException if {@code order} is negative or greater than {@link #MAX_ORDER}
+     */
+    public MarkovChoiceStrategy(int order, RandomGenerator rnd) {
+        if (order < 0 || order > MAX_ORDER) {
+            throw new IllegalArgumentException("Order must be between 0 and %d: %d".formatted(MAX_ORDER, order));
+        }
+
+        this.order = order;
+        this.rnd = rnd;
+
+        int contexts = 1;
+        for (int i = 0; i < order; i++) {
+            contexts *= CHOICES.length;
+        }
+        this.contexts = contexts;
+        this.counts = new int[contexts * CHOICES.length];
+    }
+
+    /**
+     * Counters the opponent's most likely next choice in the current context.
+     * Ties between equally likely choices are broken at random.
+     *
+     * @return the choice that beats the predicted opponent choice, or a random choice if no prediction is possible
+     */
+    @Override
+    public PlayerChoice makeChoice() {
+        if (observedRounds < order) {
+            return PlayerChoice.random(rnd);
+        }
+
+        int base = context * CHOICES.length;
+        int best = -1;
+        int bestCount = 0;
+        int ties = 0;
+        for (int choice = 0; choice < CHOICES.length; choice++) {
+            int count = counts[base + choice];
+            if (count > bestCount) {
+                best = choice;
+                bestCount = count;
+                ties = 1;
+            } else if (count == bestCount && count > 0 && rnd.nextInt(++ties) == 0) {
+                best = choice;
+            }
+        }
+
+        return best < 0 ? PlayerChoice.random(rnd) : CHOICES[best].counter();
+    }
+
+    /**
+     * Records the opponent's last choice in the current context and shifts it into the context.
+     *
+     * @param match a read-only view of the match, already including the resolved round
+     * @param self the index of the player this strategy is choosing for
+     */
+    @Override
+    public void onRoundResolved(MatchView match, PlayerIndex self) {
+        int choice = match.getLastChoice(self.opponent()).ordinal();
+        if (observedRounds >= order) {
+            counts[context * CHOICES.length + choice]++;
+        } else {
+            observedRounds++;
+        }
+        context = (context * CHOICES.length + choice) % contexts;
+    }
+
+    /**
+     * Gets the order of the Markov chain.
+     *
+     * @return the number of past opponent choices the prediction is based on
+     */
+    public int getOrder() {
+        return order;
+    }
+}
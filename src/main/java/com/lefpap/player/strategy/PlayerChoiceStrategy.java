@@ -1,6 +1,10 @@
 package com.lefpap.player.strategy;
 
+import com.lefpap.gamestate.MatchView;
 import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+
+import java.util.Objects;
 
 /**
  * Defines a strategy for making a choice in the game.
@@ -18,4 +22,73 @@ public interface PlayerChoiceStrategy {
      * @return the player's choice
      */
     PlayerChoice makeChoice();
+
+    /**
+     * Makes a choice for the player, with access to the match in progress.
+     *
+     * <p>
+     * Strategies that depend on the state of the match (scores, last round, round count)
+     * can override this method. The {@link MatchView} is live and must not be retained
+     * as a snapshot. By default, this method delegates to {@link #makeChoice()}.
+     * </p>
+     *
+     * @param match a read-only view of the match
+     * @param self the index of the player this strategy is choosing for
+     * @return the player's choice
+     */
+    default PlayerChoice makeChoice(MatchView match, PlayerIndex self) {
+        return makeChoice();
+    }
+
+    /**
+     * Notifies the strategy about the outcome of a round it took part in.
+     *
+     * <p>
+     * Stateful strategies can use this hook to learn from the choices of their opponent,
+     * which are available through {@link MatchView#getLastChoice(PlayerIndex)}. It is called
+     * once per round, after the round has been played. By default, this method does nothing.
+     * </p>
+     *
+     * @param match a read-only view of the match, already including the resolved round
+     * @param self the index of the player this strategy is choosing for
+     */
+    default void onRoundResolved(MatchView match, PlayerIndex self) {
+        // Do nothing by default
+    }
+
+    /**
+     * Checks whether the choices of this strategy are independent of the match and of each other's
+     * outcome, so that they can be generated ahead of the rounds they are played in.
+     *
+     * <p>
+     * Only stateless strategies may be driven through {@link #fillChoices(byte[], int, int)} instead of
+     * making one choice per round; such strategies are not notified through
+     * {@link #onRoundResolved(MatchView, PlayerIndex)}. By default, strategies are not stateless.
+     * </p>
+     *
+     * @return {@code true} if the strategy is stateless, {@code false} otherwise
+     */
+    default boolean isStateless() {
+        return false;
+    }
+
+    /**
+     * Makes several choices at once, storing their {@link PlayerChoice#ordinal() ordinals} in a buffer.
+     *
+     * <p>
+     * Stateless strategies can override this method to generate a whole block of choices in a tight loop.
+     * By default, it calls {@link #makeChoice()} once per element.
+     * </p>
+     *
+     * @param buffer the buffer to fill with choice ordinals
+     * @param offset the index of the first element to fill
+     * @param length the number of choices to make
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the buffer
+     */
+    default void fillChoices(byte[] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        for (int i = offset; i < offset + length; i++) {
+            buffer[i] = (byte) makeChoice().ordinal();
+        }
+    }
 }
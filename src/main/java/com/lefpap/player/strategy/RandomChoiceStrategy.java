@@ -1,27 +1,30 @@
 package com.lefpap.player.strategy;
 
 import com.lefpap.player.PlayerChoice;
+import com.lefpap.random.ChoiceSampler;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * A choice strategy that selects a random choice for the player.
  *
  * <p>
- * This implementation uses a {@link Random} instance to randomly
+ * This implementation uses a {@link RandomGenerator} instance to randomly
  * select a value from the {@link PlayerChoice} enum.
  * </p>
  */
 public class RandomChoiceStrategy implements PlayerChoiceStrategy {
 
-    private final Random rnd;
+    private static final int CHOICE_COUNT = PlayerChoice.values().length;
+
+    private final RandomGenerator rnd;
 
     /**
-     * Constructs a new {@code RandomChoiceStrategy} with the specified {@link Random} instance.
+     * Constructs a new {@code RandomChoiceStrategy} with the specified {@link RandomGenerator}.
      *
      * @param rnd the random number generator to use for selecting choices
      */
-    public RandomChoiceStrategy(Random rnd) {
+    public RandomChoiceStrategy(RandomGenerator rnd) {
         this.rnd = rnd;
     }
 
@@ -34,4 +37,19 @@ public class RandomChoiceStrategy implements PlayerChoiceStrategy {
     public PlayerChoice makeChoice() {
         return PlayerChoice.random(rnd);
     }
+
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
+    /**
+     * Makes several random choices at once, drawing several choices from each random number.
+     *
+     * @see ChoiceSampler
+     */
+    @Override
+    public void fillChoices(byte[] buffer, int offset, int length) {
+        ChoiceSampler.fill(rnd, CHOICE_COUNT, buffer, offset, length);
+    }
 }
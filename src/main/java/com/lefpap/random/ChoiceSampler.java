@@ -0,0 +1,95 @@
+package com.lefpap.random;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fills primitive buffers with uniformly distributed choice indexes.
+ *
+ * <p>
+ * Instead of drawing one bounded random number per choice, the sampler draws 32 random bits at a time
+ * and splits them into as many base-{@code n} digits as fit: 20 choices per draw for the three classic
+ * choices. Draws beyond the largest whole power of {@code n} are rejected, so every digit is exactly
+ * uniform and the output only depends on the generator's state.
+ * </p>
+ */
+public final class ChoiceSampler {
+
+    /**
+     * The largest number of choices that can be sampled, so that every index fits in one byte.
+     */
+    public static final int MAX_CHOICES = 256;
+
+    private static final long RANGE = 1L << Integer.SIZE;
+    private static final int[] DIGITS_PER_DRAW = new int[MAX_CHOICES + 1];
+    private static final long[] LIMITS = new long[MAX_CHOICES + 1];
+
+    static {
+        for (int choices = 2; choices <= MAX_CHOICES; choices++) {
+            long limit = 1;
+            int digits = 0;
+            while (limit * choices <= RANGE) {
+                limit *= choices;
+                digits++;
+            }
+            DIGITS_PER_DRAW[choices] = digits;
+            LIMITS[choices] = limit;
+        }
+    }
+
+    private ChoiceSampler() {
+    }
+
+    /**
+     * Fills a buffer with random choice indexes.
+     *
+     * @param rnd the random number generator to use
+     * @param choices the number of choices to sample from
+     * @param buffer the buffer to fill
+     * @throws IllegalArgumentException if {@code choices} is not between 1 and {@link #MAX_CHOICES}
+     */
+    public static void fill(RandomGenerator rnd, int choices, byte[] buffer) {
+        fill(rnd, choices, buffer, 0, buffer.length);
+    }
+
+    /**
+     * Fills a range of a buffer with random choice indexes. Indexes of 128 and above are stored
+     * as negative bytes; read them back with {@code buffer[i] & 0xFF}.
+     *
+     * @param rnd the random number generator to use
+     * @param choices the number of choices to sample from
+     * @param buffer the buffer to fill
+     * @param offset the index of the first element to fill
+     * @param length the number of elements to fill
+     * @throws IllegalArgumentException if {@code choices} is not between 1 and {@link #MAX_CHOICES}
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the buffer
+     */
+    public static void fill(RandomGenerator rnd, int choices, byte[] buffer, int offset, int length) {
+        if (choices < 1 || choices > MAX_CHOICES) {
+            throw new IllegalArgumentException("Number of choices must be between 1 and %d: %d"
+                .formatted(MAX_CHOICES, choices));
+        }
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+
+        int end = offset + length;
+        if (choices == 1) {
+            Arrays.fill(buffer, offset, end, (byte) 0);
+            return;
+        }
+
+        int digits = DIGITS_PER_DRAW[choices];
+        long limit = LIMITS[choices];
+        int i = offset;
+        while (i < end) {
+            long bits = rnd.nextInt() & 0xFFFFFFFFL;
+            if (bits >= limit) {
+                continue;
+            }
+            for (int digit = 0; digit < digits && i < end; digit++) {
+                buffer[i++] = (byte) (bits % choices);
+                bits /= choices;
+            }
+        }
+    }
+}
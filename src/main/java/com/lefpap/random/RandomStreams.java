@@ -0,0 +1,94 @@
+package com.lefpap.random;
+
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Creates the random generators used throughout the game.
+ *
+ * <p>
+ * All generators use the {@link #ALGORITHM L64X128MixRandom} algorithm, which is splittable,
+ * fast and, unlike {@link java.util.Random}, free of any synchronization. A generator is not
+ * thread-safe; give every thread, strategy or match its own instance.
+ * </p>
+ *
+ * <p>
+ * For reproducible experiments, {@link #forMatch(long, long)} derives the generator of every match
+ * from a master seed and the index of the match alone. Since no generator is shared or split in an
+ * order that depends on scheduling, the same experiment yields bit-for-bit identical results no matter
+ * how its matches are distributed over threads.
+ * </p>
+ */
+public final class RandomStreams {
+
+    /**
+     * The name of the random generator algorithm.
+     */
+    public static final String ALGORITHM = "L64X128MixRandom";
+
+    private static final RandomGeneratorFactory<SplittableGenerator> FACTORY = RandomGeneratorFactory.of(ALGORITHM);
+
+    /**
+     * The odd constant of SplitMix64, {@code 2^64} divided by the golden ratio.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private RandomStreams() {
+    }
+
+    /**
+     * Creates a generator with an unpredictable seed.
+     *
+     * @return a new generator
+     */
+    public static SplittableGenerator create() {
+        return FACTORY.create();
+    }
+
+    /**
+     * Creates a generator with the specified seed.
+     *
+     * @param seed the seed of the generator
+     * @return a new generator
+     */
+    public static SplittableGenerator create(long seed) {
+        return FACTORY.create(seed);
+    }
+
+    /**
+     * Creates the generator of a single match of an experiment.
+     *
+     * @param masterSeed the seed of the whole experiment
+     * @param matchIndex the index of the match within the experiment
+     * @return a new generator, always the same for the same arguments
+     */
+    public static SplittableGenerator forMatch(long masterSeed, long matchIndex) {
+        return create(deriveSeed(masterSeed, matchIndex));
+    }
+
+    /**
+     * Derives the seed of a numbered stream from a master seed.
+     *
+     * <p>
+     * Seeds are computed like the outputs of a SplitMix64 generator seeded with the mixed master seed,
+     * jumped ahead to the stream index, so neighbouring indexes and neighbouring master seeds still
+     * produce unrelated seeds.
+     * </p>
+     *
+     * @param masterSeed the master seed
+     * @param streamIndex the index of the stream
+     * @return the seed of the stream
+     */
+    public static long deriveSeed(long masterSeed, long streamIndex) {
+        return mix64(mix64(masterSeed) + (streamIndex + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * The SplitMix64 finalizer, a bijective mix of all 64 bits.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
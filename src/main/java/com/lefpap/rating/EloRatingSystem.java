@@ -0,0 +1,34 @@
+package com.lefpap.rating;
+
+/**
+ * The classic Elo rating system with a fixed K-factor.
+ */
+class EloRatingSystem implements RatingSystem {
+
+    private static final Rating INITIAL = new Rating(1500, 0, 0, 0);
+
+    private final double kFactor;
+
+    EloRatingSystem(double kFactor) {
+        if (!(kFactor > 0)) {
+            throw new IllegalArgumentException("K-factor must be positive: %s".formatted(kFactor));
+        }
+        this.kFactor = kFactor;
+    }
+
+    @Override
+    public Rating initialRating() {
+        return INITIAL;
+    }
+
+    @Override
+    public double expectedScore(Rating player, Rating opponent) {
+        return 1 / (1 + Math.pow(10, (opponent.rating() - player.rating()) / 400));
+    }
+
+    @Override
+    public Rating update(Rating player, Rating opponent, double score) {
+        double rating = player.rating() + kFactor * (score - expectedScore(player, opponent));
+        return player.next(rating, 0, 0);
+    }
+}
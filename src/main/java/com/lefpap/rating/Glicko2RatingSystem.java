@@ -0,0 +1,112 @@
+package com.lefpap.rating;
+
+/**
+ * The Glicko-2 rating system, as described by Mark Glickman, with one match per rating period.
+ *
+ * <p>
+ * Ratings are converted to the internal Glicko-2 scale for the update and back to the Glicko
+ * scale afterwards. The new volatility is found with the Illinois variant of regula falsi.
+ * </p>
+ */
+class Glicko2RatingSystem implements RatingSystem {
+
+    private static final double SCALE = 173.7178;
+    private static final double CENTER = 1500;
+    private static final double CONVERGENCE = 1e-6;
+    private static final Rating INITIAL = new Rating(CENTER, 350, 0.06, 0);
+
+    private final double tau;
+
+    Glicko2RatingSystem(double tau) {
+        if (!(tau > 0)) {
+            throw new IllegalArgumentException("Tau must be positive: %s".formatted(tau));
+        }
+        this.tau = tau;
+    }
+
+    @Override
+    public Rating initialRating() {
+        return INITIAL;
+    }
+
+    @Override
+    public double expectedScore(Rating player, Rating opponent) {
+        return expectedScore(mu(player), mu(opponent), g(phi(opponent)));
+    }
+
+    @Override
+    public Rating update(Rating player, Rating opponent, double score) {
+        double mu = mu(player);
+        double phi = phi(player);
+        double sigma = player.volatility();
+
+        double g = g(phi(opponent));
+        double expected = expectedScore(mu, mu(opponent), g);
+        double variance = 1 / (g * g * expected * (1 - expected));
+        double delta = variance * g * (score - expected);
+
+        double newSigma = volatility(phi, sigma, variance, delta);
+        double preRatingPhi = Math.sqrt(phi * phi + newSigma * newSigma);
+        double newPhi = 1 / Math.sqrt(1 / (preRatingPhi * preRatingPhi) + 1 / variance);
+        double newMu = mu + newPhi * newPhi * g * (score - expected);
+
+        return player.next(newMu * SCALE + CENTER, newPhi * SCALE, newSigma);
+    }
+
+    private double volatility(double phi, double sigma, double variance, double delta) {
+        double a = Math.log(sigma * sigma);
+        double deltaSquared = delta * delta;
+        double phiSquared = phi * phi;
+
+        double lower = a;
+        double upper;
+        if (deltaSquared > phiSquared + variance) {
+            upper = Math.log(deltaSquared - phiSquared - variance);
+        } else {
+            int k = 1;
+            while (f(a - k * tau, a, deltaSquared, phiSquared, variance) < 0) {
+                k++;
+            }
+            upper = a - k * tau;
+        }
+
+        double fLower = f(lower, a, deltaSquared, phiSquared, variance);
+        double fUpper = f(upper, a, deltaSquared, phiSquared, variance);
+        while (Math.abs(upper - lower) > CONVERGENCE) {
+            double next = lower + (lower - upper) * fLower / (fUpper - fLower);
+            double fNext = f(next, a, deltaSquared, phiSquared, variance);
+            if (fNext * fUpper <= 0) {
+                lower = upper;
+                fLower = fUpper;
+            } else {
+                fLower /= 2;
+            }
+            upper = next;
+            fUpper = fNext;
+        }
+        return Math.exp(lower / 2);
+    }
+
+    private double f(double x, double a, double deltaSquared, double phiSquared, double variance) {
+        double ex = Math.exp(x);
+        double denominator = phiSquared + variance + ex;
+        return ex * (deltaSquared - phiSquared - variance - ex) / (2 * denominator * denominator)
+            - (x - a) / (tau * tau);
+    }
+
+    private static double expectedScore(double mu, double opponentMu, double g) {
+        return 1 / (1 + Math.exp(-g * (mu - opponentMu)));
+    }
+
+    private static double g(double phi) {
+        return 1 / Math.sqrt(1 + 3 * phi * phi / (Math.PI * Math.PI));
+    }
+
+    private static double mu(Rating rating) {
+        return (rating.rating() - CENTER) / SCALE;
+    }
+
+    private static double phi(Rating rating) {
+        return rating.deviation() / SCALE;
+    }
+}
@@ -0,0 +1,137 @@
+package com.lefpap.rating;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pairs waiting players with the closest rated opponent.
+ *
+ * <p>
+ * Waiting players are kept in a {@link ConcurrentSkipListMap} ordered by rating (and by arrival,
+ * among equal ratings), so that joining, leaving and finding the nearest opponent all take
+ * logarithmic time however many players are waiting. The skip list is lock-free: concurrent
+ * arrivals contend only when they race for the same opponent.
+ * </p>
+ *
+ * <p>
+ * An arriving player is first added to the queue and then tries to claim its nearest neighbour
+ * within the maximum rating gap. A pairing is made by whoever removes both players from the queue,
+ * and is returned to that caller only: the caller is expected to start the match for both players.
+ * </p>
+ *
+ * @param <P> the type of the players, which must have consistent {@code equals} and {@code hashCode}
+ */
+public class Matchmaker<P> {
+
+    private final double maxRatingGap;
+    private final ConcurrentSkipListMap<Ticket, P> queue = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<P, Ticket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Constructs a new {@code Matchmaker}.
+     *
+     * @param maxRatingGap the largest rating difference allowed between paired players,
+     *                     possibly {@link Double#POSITIVE_INFINITY infinite}
+     * @throws IllegalArgumentException if {@code maxRatingGap} is negative
+     */
+    public Matchmaker(double maxRatingGap) {
+        if (!(maxRatingGap >= 0)) {
+            throw new IllegalArgumentException("Max rating gap must not be negative: %s".formatted(maxRatingGap));
+        }
+        this.maxRatingGap = maxRatingGap;
+    }
+
+    /**
+     * Adds a player to the queue and pairs them with the closest waiting opponent, if any.
+     *
+     * @param player the arriving player
+     * @param rating the rating of the player
+     * @return an {@link Optional} containing the opponent of the player, who is no longer waiting,
+     *         or an empty {@link Optional} if the player is left waiting (or was paired by another caller)
+     * @throws IllegalStateException if the player is already waiting
+     */
+    public Optional<P> enqueue(P player, double rating) {
+        Ticket ticket = new Ticket(rating, sequence.getAndIncrement());
+        if (tickets.putIfAbsent(player, ticket) != null) {
+            throw new IllegalStateException("Player is already waiting: %s".formatted(player));
+        }
+        queue.put(ticket, player);
+
+        while (true) {
+            Map.Entry<Ticket, P> opponent = nearest(ticket);
+            if (opponent == null) {
+                return Optional.empty();
+            }
+            if (!queue.remove(ticket, player)) {
+                // Someone else has paired us in the meantime
+                return Optional.empty();
+            }
+            if (queue.remove(opponent.getKey(), opponent.getValue())) {
+                tickets.remove(player, ticket);
+                tickets.remove(opponent.getValue(), opponent.getKey());
+                return Optional.of(opponent.getValue());
+            }
+            // The opponent was taken first: get back in line and look again
+            queue.put(ticket, player);
+            if (tickets.get(player) != ticket) {
+                // Cancelled while out of line; a cancel after the check removes the ticket itself
+                queue.remove(ticket, player);
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Removes a waiting player from the queue.
+     *
+     * @param player the player to remove
+     * @return {@code true} if the player was waiting, {@code false} if they were not, have just been paired,
+     *         or are being matched by their own {@link #enqueue(Object, double) enqueue} call,
+     *         which then leaves them out of the queue
+     */
+    public boolean cancel(P player) {
+        Ticket ticket = tickets.remove(player);
+        return ticket != null && queue.remove(ticket, player);
+    }
+
+    /**
+     * Gets the number of waiting players. The count is approximate while players are being paired.
+     *
+     * @return the number of waiting players
+     */
+    public int size() {
+        return tickets.size();
+    }
+
+    private Map.Entry<Ticket, P> nearest(Ticket ticket) {
+        Map.Entry<Ticket, P> lower = queue.lowerEntry(ticket);
+        Map.Entry<Ticket, P> higher = queue.higherEntry(ticket);
+        double lowerGap = lower == null ? Double.POSITIVE_INFINITY : ticket.rating() - lower.getKey().rating();
+        double higherGap = higher == null ? Double.POSITIVE_INFINITY : higher.getKey().rating() - ticket.rating();
+
+        if (lower != null && lowerGap <= higherGap && lowerGap <= maxRatingGap) {
+            return lower;
+        }
+        if (higher != null && higherGap <= maxRatingGap) {
+            return higher;
+        }
+        return null;
+    }
+
+    /**
+     * The position of a waiting player in the queue.
+     */
+    private record Ticket(double rating, long sequence) implements Comparable<Ticket> {
+
+        @Override
+        public int compareTo(Ticket other) {
+            int byRating = Double.compare(rating, other.rating);
+            return byRating != 0 ? byRating : Long.compare(sequence, other.sequence);
+        }
+    }
+}
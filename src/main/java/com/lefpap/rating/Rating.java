@@ -0,0 +1,30 @@
+package com.lefpap.rating;
+
+/**
+ * An immutable skill rating.
+ *
+ * <p>
+ * Elo ratings only use {@link #rating()}; Glicko-2 ratings also track how uncertain the rating is
+ * ({@link #deviation()}) and how erratic the player's results are ({@link #volatility()}).
+ * Both are expressed on the familiar Glicko scale, centered on 1500.
+ * </p>
+ *
+ * @param rating the rating
+ * @param deviation the rating deviation, {@code 0} for Elo ratings
+ * @param volatility the rating volatility, {@code 0} for Elo ratings
+ * @param matches the number of rated matches played
+ */
+public record Rating(double rating, double deviation, double volatility, int matches) {
+
+    /**
+     * Creates a copy of this rating updated after one more match.
+     *
+     * @param rating the new rating
+     * @param deviation the new rating deviation
+     * @param volatility the new rating volatility
+     * @return the updated {@code Rating}
+     */
+    Rating next(double rating, double deviation, double volatility) {
+        return new Rating(rating, deviation, volatility, matches + 1);
+    }
+}
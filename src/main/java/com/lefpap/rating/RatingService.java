@@ -0,0 +1,116 @@
+package com.lefpap.rating;
+
+import com.lefpap.gamestate.MatchStatus;
+import com.lefpap.gamestate.MatchView;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the current ratings of a pool of players and updates them from finished matches.
+ *
+ * <p>
+ * Players are identified by name. Each player's rating lives in its own {@link AtomicReference}
+ * and is replaced with a compare-and-set loop, so matches finishing concurrently never wait on
+ * each other: two updates only retry when they touch the same player at the same time.
+ * </p>
+ *
+ * <p>
+ * Both players of a match are rated against their opponent's rating as it was read when the
+ * match was recorded. The two updates are not applied atomically together; a reader may observe
+ * one player's new rating before the other's.
+ * </p>
+ */
+public class RatingService {
+
+    private final RatingSystem ratingSystem;
+    private final ConcurrentMap<String, AtomicReference<Rating>> ratings = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code RatingService}.
+     *
+     * @param ratingSystem the rating system computing the updates
+     */
+    public RatingService(RatingSystem ratingSystem) {
+        this.ratingSystem = ratingSystem;
+    }
+
+    /**
+     * Records the outcome of a finished match.
+     *
+     * @param playerOne the name of Player One
+     * @param playerTwo the name of Player Two
+     * @param match the finished match
+     * @throws IllegalArgumentException if both names are equal or the match is still in progress
+     */
+    public void record(String playerOne, String playerTwo, MatchView match) {
+        record(playerOne, playerTwo, match.getStatus());
+    }
+
+    /**
+     * Records the outcome of a finished match. An {@link MatchStatus#UNDECIDED undecided} match
+     * counts as half a win for both players.
+     *
+     * @param playerOne the name of Player One
+     * @param playerTwo the name of Player Two
+     * @param status the final status of the match
+     * @throws IllegalArgumentException if both names are equal or the match is still in progress
+     */
+    public void record(String playerOne, String playerTwo, MatchStatus status) {
+        if (playerOne.equals(playerTwo)) {
+            throw new IllegalArgumentException("A player cannot be rated against themselves: %s".formatted(playerOne));
+        }
+
+        double playerOneScore = switch (status) {
+            case PLAYER_ONE_WINS -> 1;
+            case PLAYER_TWO_WINS -> 0;
+            case UNDECIDED -> 0.5;
+            case IN_PROGRESS -> throw new IllegalArgumentException("Match is still in progress");
+        };
+
+        AtomicReference<Rating> one = entry(playerOne);
+        AtomicReference<Rating> two = entry(playerTwo);
+        Rating oneBefore = one.get();
+        Rating twoBefore = two.get();
+        one.updateAndGet(rating -> ratingSystem.update(rating, twoBefore, playerOneScore));
+        two.updateAndGet(rating -> ratingSystem.update(rating, oneBefore, 1 - playerOneScore));
+    }
+
+    /**
+     * Gets the current rating of a player.
+     *
+     * @param player the name of the player
+     * @return the rating of the player, or the {@link RatingSystem#initialRating() initial rating}
+     *         if they have not played a rated match yet
+     */
+    public Rating getRating(String player) {
+        AtomicReference<Rating> rating = ratings.get(player);
+        return rating == null ? ratingSystem.initialRating() : rating.get();
+    }
+
+    /**
+     * Gets the rating system computing the updates.
+     *
+     * @return the {@link RatingSystem}
+     */
+    public RatingSystem getRatingSystem() {
+        return ratingSystem;
+    }
+
+    /**
+     * Gets the number of rated players.
+     *
+     * @return the number of players who have played at least one rated match
+     */
+    public int size() {
+        return ratings.size();
+    }
+
+    private AtomicReference<Rating> entry(String player) {
+        AtomicReference<Rating> rating = ratings.get(player);
+        return rating != null
+            ? rating
+            : ratings.computeIfAbsent(player, p -> new AtomicReference<>(ratingSystem.initialRating()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.lefpap.rating;
+
+/**
+ * Computes rating updates from match outcomes.
+ *
+ * <p>
+ * A rating system is a pure function of two ratings and a score: it holds no state of its own
+ * and can be shared between any number of threads. Keeping track of the current ratings is
+ * the job of the {@link RatingService}.
+ * </p>
+ */
+public interface RatingSystem {
+
+    /**
+     * The rating of a player who has not played any rated match yet.
+     *
+     * @return the initial {@link Rating}
+     */
+    Rating initialRating();
+
+    /**
+     * Gets the probability that a player beats an opponent, as predicted by this system.
+     *
+     * @param player the rating of the player
+     * @param opponent the rating of the opponent
+     * @return the expected score of the player, between {@code 0} and {@code 1}
+     */
+    double expectedScore(Rating player, Rating opponent);
+
+    /**
+     * Updates the rating of a player after a match.
+     *
+     * @param player the rating of the player before the match
+     * @param opponent the rating of the opponent before the match
+     * @param score the score of the player: {@code 1} for a win, {@code 0.5} for an undecided match,
+     *              {@code 0} for a loss
+     * @return the rating of the player after the match
+     */
+    Rating update(Rating player, Rating opponent, double score);
+
+    /**
+     * Creates an Elo rating system.
+     *
+     * @param kFactor the maximum rating change per match
+     * @return the Elo rating system
+     * @throws IllegalArgumentException if {@code kFactor} is not positive
+     */
+    static RatingSystem elo(double kFactor) {
+        return new EloRatingSystem(kFactor);
+    }
+
+    /**
+     * Creates a Glicko-2 rating system which treats every match as its own rating period.
+     *
+     * @param tau the system constant constraining the change in volatility, typically between {@code 0.3}
+     *            and {@code 1.2}
+     * @return the Glicko-2 rating system
+     * @throws IllegalArgumentException if {@code tau} is not positive
+     */
+    static RatingSystem glicko2(double tau) {
+        return new Glicko2RatingSystem(tau);
+    }
+}
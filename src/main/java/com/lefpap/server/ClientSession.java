@@ -0,0 +1,213 @@
+package com.lefpap.server;
+
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.Player;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The state of a single client connection of the {@link MatchServer}.
+ *
+ * <p>
+ * A session accumulates incoming bytes into lines, plays one round per valid choice against
+ * the server-side opponent, and queues the responses until the channel can take them.
+ * Sessions are only ever touched by the server's event loop thread.
+ * </p>
+ *
+ * <p>
+ * While responses are queued, the session stops reading from the channel, so a client that
+ * does not read its responses cannot make the server queue an unbounded amount of output:
+ * at most the responses to a single read are ever pending.
+ * </p>
+ */
+class ClientSession {
+
+    private static final String QUIT = "quit";
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final int scoreToWin;
+    private final RemoteChoiceStrategy remoteStrategy;
+    private final Player remote;
+    private final Player opponent;
+    private final StringBuilder line;
+    private final Deque<ByteBuffer> pendingWrites;
+
+    private GameState gameState;
+    private boolean closing;
+    private boolean closed;
+
+    ClientSession(SocketChannel channel, SelectionKey key, int scoreToWin, PlayerChoiceStrategy opponentStrategy) {
+        this.channel = channel;
+        this.key = key;
+        this.scoreToWin = scoreToWin;
+        this.remoteStrategy = new RemoteChoiceStrategy();
+        this.remote = new Player("Remote", remoteStrategy);
+        this.opponent = new Player("Server", opponentStrategy);
+        this.line = new StringBuilder(MatchServer.MAX_LINE_LENGTH);
+        this.pendingWrites = new ArrayDeque<>();
+        this.gameState = new GameState(scoreToWin);
+    }
+
+    /**
+     * Sends the greeting of a new connection.
+     */
+    void open() throws IOException {
+        send("WELCOME %d".formatted(scoreToWin));
+    }
+
+    /**
+     * Consumes the bytes read from the channel, handling every complete line.
+     *
+     * @param buffer the buffer holding the bytes read, flipped for reading
+     */
+    void onBytesRead(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && !closing) {
+            char c = (char) (buffer.get() & 0xFF);
+            if (c == '\n') {
+                handleLine();
+                line.setLength(0);
+            } else if (line.length() == MatchServer.MAX_LINE_LENGTH) {
+                send("ERROR line too long");
+                closeAfterWrites();
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    /**
+     * Writes as much of the queued output as the channel accepts. Reading is suspended until
+     * all of it has been written.
+     */
+    void flush() throws IOException {
+        while (!pendingWrites.isEmpty()) {
+            ByteBuffer buffer = pendingWrites.peekFirst();
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            pendingWrites.pollFirst();
+        }
+
+        if (closing) {
+            close();
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Closes the connection immediately.
+     */
+    void close() throws IOException {
+        key.cancel();
+        channel.close();
+    }
+
+    boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    /**
+     * Marks the session as closed, so that it is only accounted for once.
+     *
+     * @return {@code true} if the session was not already marked as closed
+     */
+    boolean markClosed() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+
+    /**
+     * Handles the buffered line, parsing it in place rather than copying it into a string.
+     */
+    private void handleLine() throws IOException {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            return;
+        }
+        if (isQuit(start, end)) {
+            send("BYE");
+            closeAfterWrites();
+            return;
+        }
+
+        PlayerChoice choice = PlayerChoice.parse(line, start, end);
+        if (choice == null) {
+            send("ERROR invalid choice: %s".formatted(line.substring(start, end)));
+            return;
+        }
+
+        remoteStrategy.offer(choice);
+        RoundResult result = gameState.playRound(remote, opponent);
+        send("ROUND %d %s %s %s %d %d".formatted(
+            gameState.getRoundCount(),
+            gameState.getLastChoice(PlayerIndex.PLAYER_ONE),
+            gameState.getLastChoice(PlayerIndex.PLAYER_TWO),
+            formatResult(result),
+            gameState.getPlayerScore(PlayerIndex.PLAYER_ONE),
+            gameState.getPlayerScore(PlayerIndex.PLAYER_TWO)
+        ));
+
+        if (gameState.hasWinner()) {
+            PlayerIndex winner = gameState.getWinner().orElseThrow();
+            send("GAME_OVER %s".formatted(winner == PlayerIndex.PLAYER_ONE ? "WIN" : "LOSE"));
+            gameState = new GameState(scoreToWin);
+        }
+    }
+
+    private boolean isQuit(int start, int end) {
+        if (end - start != QUIT.length()) {
+            return false;
+        }
+        for (int i = 0; i < QUIT.length(); i++) {
+            if (Character.toLowerCase(line.charAt(start + i)) != QUIT.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String formatResult(RoundResult result) {
+        return switch (result) {
+            case PLAYER_ONE_WINS -> "WIN";
+            case PLAYER_TWO_WINS -> "LOSE";
+            case DRAW -> "DRAW";
+        };
+    }
+
+    private void send(String message) throws IOException {
+        pendingWrites.addLast(ByteBuffer.wrap((message + "\n").getBytes(StandardCharsets.US_ASCII)));
+        flush();
+    }
+
+    private void closeAfterWrites() throws IOException {
+        closing = true;
+        if (pendingWrites.isEmpty() && channel.isOpen()) {
+            close();
+        }
+    }
+}
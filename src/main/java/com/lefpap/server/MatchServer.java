@@ -0,0 +1,273 @@
+package com.lefpap.server;
+
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking TCP server hosting many concurrent matches on a single thread.
+ *
+ * <p>
+ * Every client connection plays its own match against a server-side opponent created by
+ * the opponent factory. All connections are multiplexed over one NIO {@link Selector},
+ * so an idle client costs a socket and a small session object, but no thread.
+ * </p>
+ *
+ * <p>
+ * The protocol is line based (ASCII, {@code \n} terminated):
+ * <ul>
+ *   <li>On connect, the server sends {@code WELCOME <scoreToWin>}.</li>
+ *   <li>The client sends a choice, by name or alias as accepted by
+ *       {@link com.lefpap.player.PlayerChoice#of(String)}. The server answers with
+ *       {@code ROUND <index> <clientChoice> <serverChoice> <WIN|LOSE|DRAW> <clientScore> <serverScore>}.</li>
+ *   <li>When a player reaches the winning score, the server also sends {@code GAME_OVER <WIN|LOSE>}
+ *       and the next choice starts a new match.</li>
+ *   <li>The client sends {@code QUIT} to leave; the server answers {@code BYE} and closes the connection.</li>
+ *   <li>Invalid input is answered with {@code ERROR <message>}.</li>
+ * </ul>
+ * </p>
+ */
+public class MatchServer implements AutoCloseable {
+
+    /**
+     * The maximum length of a line sent by a client. Longer lines close the connection.
+     */
+    public static final int MAX_LINE_LENGTH = 64;
+
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final long ACCEPT_BACKOFF_MILLIS = 100;
+    private static final System.Logger LOGGER = System.getLogger(MatchServer.class.getName());
+
+    private final InetSocketAddress address;
+    private final int scoreToWin;
+    private final Supplier<PlayerChoiceStrategy> opponentFactory;
+    private final AtomicInteger activeSessions;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread eventLoop;
+    private volatile boolean running;
+
+    // Only touched by the event loop thread
+    private SelectionKey pausedAccept;
+    private long acceptResumeNanos;
+
+    /**
+     * Constructs a new {@code MatchServer}.
+     *
+     * @param address the address to listen on; use port {@code 0} for an ephemeral port
+     * @param scoreToWin the score a player must reach to win a match
+     * @param opponentFactory creates the server-side opponent strategy of each connection
+     */
+    public MatchServer(InetSocketAddress address, int scoreToWin, Supplier<PlayerChoiceStrategy> opponentFactory) {
+        this.address = address;
+        this.scoreToWin = scoreToWin;
+        this.opponentFactory = opponentFactory;
+        this.activeSessions = new AtomicInteger();
+    }
+
+    /**
+     * Binds the server socket and starts the event loop thread.
+     *
+     * @throws IOException if the server socket cannot be opened or bound
+     * @throws IllegalStateException if the server has already been started
+     */
+    public synchronized void start() throws IOException {
+        if (eventLoop != null) {
+            throw new IllegalStateException("Server already started");
+        }
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        eventLoop = Thread.ofPlatform().name("match-server").start(this::runEventLoop);
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return the local port of the server socket
+     * @throws IllegalStateException if the server has not been started
+     */
+    public int getPort() {
+        if (serverChannel == null) {
+            throw new IllegalStateException("Server not started");
+        }
+
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the number of currently connected clients.
+     *
+     * @return the number of open sessions
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Stops the event loop and closes all connections.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (eventLoop == null) {
+            return;
+        }
+
+        running = false;
+        selector.wakeup();
+        try {
+            eventLoop.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runEventLoop() {
+        ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        try (Selector selector = this.selector; ServerSocketChannel serverChannel = this.serverChannel) {
+            while (running) {
+                selector.select(pausedAccept == null ? 0 : ACCEPT_BACKOFF_MILLIS);
+                resumeAccept();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        accept(key, serverChannel, selector);
+                    } else {
+                        handle(key, readBuffer);
+                    }
+                }
+            }
+
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof ClientSession session) {
+                    closeSession(session);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void accept(SelectionKey acceptKey, ServerSocketChannel serverChannel, Selector selector) {
+        SocketChannel channel;
+        SelectionKey key;
+        try {
+            channel = serverChannel.accept();
+        } catch (IOException e) {
+            // Typically out of file descriptors. The connection stays pending and would make every
+            // select return at once, so stop accepting for a while and keep serving the open sessions
+            LOGGER.log(
+                System.Logger.Level.WARNING,
+                "Failed to accept connection, pausing accepts for %d ms".formatted(ACCEPT_BACKOFF_MILLIS),
+                e
+            );
+            acceptKey.interestOps(0);
+            pausedAccept = acceptKey;
+            acceptResumeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ACCEPT_BACKOFF_MILLIS);
+            return;
+        }
+        if (channel == null) {
+            return;
+        }
+
+        PlayerChoiceStrategy opponent;
+        try {
+            opponent = opponentFactory.get();
+            channel.configureBlocking(false);
+            key = channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Failed to set up connection", e);
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The connection is gone either way
+            }
+            return;
+        }
+
+        ClientSession session = new ClientSession(channel, key, scoreToWin, opponent);
+        key.attach(session);
+        activeSessions.incrementAndGet();
+        try {
+            session.open();
+        } catch (IOException e) {
+            closeSession(session);
+        }
+    }
+
+    private void resumeAccept() {
+        if (pausedAccept != null && System.nanoTime() - acceptResumeNanos >= 0) {
+            if (pausedAccept.isValid()) {
+                pausedAccept.interestOps(SelectionKey.OP_ACCEPT);
+            }
+            pausedAccept = null;
+        }
+    }
+
+    private void handle(SelectionKey key, ByteBuffer readBuffer) {
+        ClientSession session = (ClientSession) key.attachment();
+        try {
+            if (key.isWritable()) {
+                session.flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                readBuffer.clear();
+                int read = ((SocketChannel) key.channel()).read(readBuffer);
+                if (read < 0) {
+                    closeSession(session);
+                    return;
+                }
+                readBuffer.flip();
+                session.onBytesRead(readBuffer);
+            }
+        } catch (IOException e) {
+            closeSession(session);
+        } catch (RuntimeException e) {
+            // A failing opponent strategy only ends its own session
+            LOGGER.log(System.Logger.Level.WARNING, "Session failed", e);
+            closeSession(session);
+        }
+
+        if (!session.isOpen()) {
+            closeSession(session);
+        }
+    }
+
+    private void closeSession(ClientSession session) {
+        if (session.markClosed()) {
+            activeSessions.decrementAndGet();
+        }
+        try {
+            session.close();
+        } catch (IOException e) {
+            // The connection is gone either way
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lefpap.server;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+
+/**
+ * A choice strategy whose choices are pushed in from a remote client.
+ *
+ * <p>
+ * Unlike {@link com.lefpap.player.strategy.InputChoiceStrategy}, this strategy never blocks:
+ * the network layer {@link #offer(PlayerChoice) offers} the choice received from the client,
+ * and the round is played only once a choice is pending. This lets a single event loop
+ * drive many matches without dedicating a thread to each player.
+ * </p>
+ */
+public class RemoteChoiceStrategy implements PlayerChoiceStrategy {
+
+    private PlayerChoice pendingChoice;
+
+    /**
+     * Sets the choice to return on the next call to {@link #makeChoice()}.
+     *
+     * @param choice the choice received from the remote player
+     */
+    public void offer(PlayerChoice choice) {
+        this.pendingChoice = choice;
+    }
+
+    /**
+     * Checks whether a choice has been received and not yet consumed.
+     *
+     * @return {@code true} if a choice is pending, {@code false} otherwise
+     */
+    public boolean hasPendingChoice() {
+        return pendingChoice != null;
+    }
+
+    /**
+     * Consumes the pending choice of the remote player.
+     *
+     * @return the pending choice
+     * @throws IllegalStateException if no choice has been received
+     */
+    @Override
+    public PlayerChoice makeChoice() {
+        if (pendingChoice == null) {
+            throw new IllegalStateException("No choice received from the remote player");
+        }
+
+        PlayerChoice choice = pendingChoice;
+        pendingChoice = null;
+        return choice;
+    }
+}
@@ -0,0 +1,120 @@
+package com.lefpap.session;
+
+import com.lefpap.game.Game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A handle to a {@link Game} running on its own virtual thread inside a {@link SessionHost}.
+ *
+ * <p>
+ * A session ends when its game loop ends, either because the game is over, because the
+ * player quit, or because the session was {@link #terminate() terminated}. A game that fails
+ * (for example because its input stream was closed while it was waiting for input) also ends
+ * the session; the failure is then available through {@link #getFailure()}.
+ * </p>
+ */
+public class GameSession {
+
+    private final long id;
+    private final Game game;
+    private final Closeable io;
+    private final Runnable onFinished;
+    private final CountDownLatch finished;
+    private volatile Throwable failure;
+
+    GameSession(long id, Game game, Closeable io, Runnable onFinished) {
+        this.id = id;
+        this.game = game;
+        this.io = io;
+        this.onFinished = onFinished;
+        this.finished = new CountDownLatch(1);
+    }
+
+    /**
+     * Runs the game loop on the calling thread and releases the session's I/O resources afterwards.
+     * The completion callback runs before the session is reported as ended, so that anyone
+     * {@link #awaitTermination(Duration) awaiting} the session observes its effects.
+     */
+    void run() {
+        try {
+            game.run();
+        } catch (RuntimeException e) {
+            if (!game.isTerminated()) {
+                failure = e;
+            }
+        } finally {
+            try {
+                closeIo();
+                onFinished.run();
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+
+    /**
+     * Gets the identifier of the session, unique within its host.
+     *
+     * @return the session id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Checks whether the game of this session is still running.
+     *
+     * @return {@code true} if the game loop has not ended yet, {@code false} otherwise
+     */
+    public boolean isRunning() {
+        return finished.getCount() > 0;
+    }
+
+    /**
+     * Stops the session gracefully.
+     *
+     * <p>
+     * The game is {@link Game#terminate() terminated} and the session's I/O resources are closed,
+     * which releases a game blocked on reading input. This method does not wait for the session to end.
+     * </p>
+     */
+    public void terminate() {
+        game.terminate();
+        closeIo();
+    }
+
+    /**
+     * Waits for the session to end.
+     *
+     * @param timeout the maximum time to wait
+     * @return {@code true} if the session ended, {@code false} if the timeout elapsed first
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean awaitTermination(Duration timeout) throws InterruptedException {
+        return finished.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Retrieves the exception that ended the game, if any.
+     *
+     * @return an {@link Optional} containing the failure, or an empty {@link Optional}
+     * if the game ended normally or was terminated
+     */
+    public Optional<Throwable> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    private void closeIo() {
+        try {
+            io.close();
+        } catch (IOException e) {
+            // The session is ending either way
+        }
+    }
+}
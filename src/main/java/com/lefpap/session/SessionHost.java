@@ -0,0 +1,110 @@
+package com.lefpap.session;
+
+import com.lefpap.game.Game;
+import com.lefpap.game.RockPaperScissorsGame;
+import com.lefpap.random.RandomStreams;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many blocking {@link Game} loops concurrently, each on its own virtual thread.
+ *
+ * <p>
+ * Games keep their simple blocking programming model (reading input, rendering output, waiting
+ * for the player), while a blocked virtual thread costs no platform thread. This allows a single
+ * host to keep tens of thousands of mostly idle human sessions open at the same time.
+ * </p>
+ */
+public class SessionHost implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Map<Long, GameSession> sessions;
+    private final AtomicLong nextId;
+
+    /**
+     * Constructs a new {@code SessionHost}.
+     */
+    public SessionHost() {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong();
+    }
+
+    /**
+     * Starts a Rock-Paper-Scissors game playing on the specified streams.
+     *
+     * <p>
+     * Both streams are closed when the session ends.
+     * </p>
+     *
+     * @param in the stream the player's input is read from
+     * @param out the stream the game is rendered to
+     * @return the {@link GameSession} of the started game
+     */
+    public GameSession startRockPaperScissors(InputStream in, OutputStream out) {
+        PrintStream printStream = new PrintStream(out, true, StandardCharsets.UTF_8);
+        Game game = new RockPaperScissorsGame(in, printStream, RandomStreams.create());
+        return start(game, () -> {
+            try (in; printStream) {
+                // Close both streams
+            }
+        });
+    }
+
+    /**
+     * Starts the specified game on a new virtual thread.
+     *
+     * @param game the game to run
+     * @param io the I/O resources of the game, closed when the session ends or is terminated
+     * @return the {@link GameSession} of the started game
+     */
+    public GameSession start(Game game, Closeable io) {
+        long id = nextId.incrementAndGet();
+        GameSession session = new GameSession(id, game, io, () -> sessions.remove(id));
+        sessions.put(id, session);
+        executor.execute(session::run);
+        return session;
+    }
+
+    /**
+     * Gets the number of sessions whose game is still running.
+     *
+     * @return the number of active sessions
+     */
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Terminates all active sessions and waits up to the specified time for them to end.
+     *
+     * @param timeout the maximum time to wait
+     * @return {@code true} if all sessions ended, {@code false} if the timeout elapsed first
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean shutdown(Duration timeout) throws InterruptedException {
+        sessions.values().forEach(GameSession::terminate);
+        executor.shutdown();
+        return executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Terminates all active sessions and waits for them to end.
+     */
+    @Override
+    public void close() {
+        sessions.values().forEach(GameSession::terminate);
+        executor.close();
+    }
+}
@@ -0,0 +1,198 @@
+package com.lefpap.simulation;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.player.Player;
+import com.lefpap.player.PlayerIndex;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+
+/**
+ * Plays complete matches between two strategies without any console I/O.
+ *
+ * <p>
+ * The {@code MatchSimulator} drives {@link GameState} directly instead of going
+ * through the interactive {@link com.lefpap.game.Game} loop, which makes it suitable
+ * for evaluating strategy pairings over a large number of matches. Each match is
+ * played until its {@link MatchEndPolicy} ends it, by default when one player reaches
+ * the winning score or the round cap is hit.
+ * Matches are played without recording their round history, so the simulation loop
+ * itself allocates nothing per round. When both strategies are
+ * {@link PlayerChoiceStrategy#isStateless() stateless}, their choices are generated in blocks
+ * and played through {@link GameState#playRounds(byte[], byte[], int, int)}.
+ * </p>
+ *
+ * <p>
+ * A simulator is not thread-safe, as the strategies it drives are not required to be.
+ * Use one simulator (and one pair of strategies) per thread.
+ * </p>
+ */
+public class MatchSimulator {
+
+    /**
+     * The default maximum number of rounds per match, guarding against pairings that never finish
+     * (e.g. two strategies that always make the same choice).
+     */
+    public static final int DEFAULT_MAX_ROUNDS_PER_MATCH = 10_000;
+
+    private static final int CHOICES_PER_BATCH = 512;
+
+    private final Player playerOne;
+    private final Player playerTwo;
+    private final PlayerChoiceStrategy playerOneStrategy;
+    private final PlayerChoiceStrategy playerTwoStrategy;
+    private final MatchEndPolicy endPolicy;
+    private final MatchEventSink eventSink;
+    private final boolean batched;
+    private final byte[] playerOneChoices;
+    private final byte[] playerTwoChoices;
+
+    /**
+     * Constructs a new {@code MatchSimulator} using the {@link #DEFAULT_MAX_ROUNDS_PER_MATCH default} round cap.
+     *
+     * @param playerOneStrategy the strategy of player one
+     * @param playerTwoStrategy the strategy of player two
+     * @param scoreToWin the score a player must reach to win a match
+     * @throws IllegalArgumentException if {@code scoreToWin} is not positive
+     */
+    public MatchSimulator(PlayerChoiceStrategy playerOneStrategy, PlayerChoiceStrategy playerTwoStrategy, int scoreToWin) {
+        this(playerOneStrategy, playerTwoStrategy, scoreToWin, DEFAULT_MAX_ROUNDS_PER_MATCH);
+    }
+
+    /**
+     * Constructs a new {@code MatchSimulator}.
+     *
+     * @param playerOneStrategy the strategy of player one
+     * @param playerTwoStrategy the strategy of player two
+     * @param scoreToWin the score a player must reach to win a match
+     * @param maxRoundsPerMatch the number of rounds after which a match is stopped as undecided
+     * @throws IllegalArgumentException if {@code scoreToWin} or {@code maxRoundsPerMatch} is not positive
+     */
+    public MatchSimulator(
+        PlayerChoiceStrategy playerOneStrategy,
+        PlayerChoiceStrategy playerTwoStrategy,
+        int scoreToWin,
+        int maxRoundsPerMatch
+    ) {
+        this(playerOneStrategy, playerTwoStrategy, scoreToWin, maxRoundsPerMatch, MatchEventSink.NONE);
+    }
+
+    /**
+     * Constructs a new {@code MatchSimulator} that publishes the events of every simulated match.
+     *
+     * @param playerOneStrategy the strategy of player one
+     * @param playerTwoStrategy the strategy of player two
+     * @param scoreToWin the score a player must reach to win a match
+     * @param maxRoundsPerMatch the number of rounds after which a match is stopped as undecided
+     * @param eventSink the sink receiving the events of all simulated matches
+     * @throws IllegalArgumentException if {@code scoreToWin} or {@code maxRoundsPerMatch} is not positive
+     */
+    public MatchSimulator(
+        PlayerChoiceStrategy playerOneStrategy,
+        PlayerChoiceStrategy playerTwoStrategy,
+        int scoreToWin,
+        int maxRoundsPerMatch,
+        MatchEventSink eventSink
+    ) {
+        this(
+            playerOneStrategy,
+            playerTwoStrategy,
+            MatchEndPolicy.firstTo(scoreToWin).withRoundCap(maxRoundsPerMatch),
+            eventSink
+        );
+    }
+
+    /**
+     * Constructs a new {@code MatchSimulator} whose matches end according to the specified policy.
+     *
+     * <p>
+     * The policy must end every match eventually; use {@link MatchEndPolicy#withRoundCap(int)}
+     * for policies that do not, such as first-to-N between two strategies that may always draw.
+     * </p>
+     *
+     * @param playerOneStrategy the strategy of player one
+     * @param playerTwoStrategy the strategy of player two
+     * @param endPolicy the policy deciding when a match ends and who wins it
+     * @param eventSink the sink receiving the events of all simulated matches
+     */
+    public MatchSimulator(
+        PlayerChoiceStrategy playerOneStrategy,
+        PlayerChoiceStrategy playerTwoStrategy,
+        MatchEndPolicy endPolicy,
+        MatchEventSink eventSink
+    ) {
+        this.playerOne = new Player("Player One", playerOneStrategy);
+        this.playerTwo = new Player("Player Two", playerTwoStrategy);
+        this.playerOneStrategy = playerOneStrategy;
+        this.playerTwoStrategy = playerTwoStrategy;
+        this.endPolicy = endPolicy;
+        this.eventSink = eventSink;
+        this.batched = playerOneStrategy.isStateless() && playerTwoStrategy.isStateless();
+        this.playerOneChoices = batched ? new byte[CHOICES_PER_BATCH] : null;
+        this.playerTwoChoices = batched ? new byte[CHOICES_PER_BATCH] : null;
+    }
+
+    /**
+     * Plays the specified number of complete matches and aggregates their statistics.
+     *
+     * @param matches the number of matches to play
+     * @return the aggregated {@link SimulationResult}
+     * @throws IllegalArgumentException if {@code matches} is negative
+     */
+    public SimulationResult simulate(long matches) {
+        if (matches < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative: %d".formatted(matches));
+        }
+
+        long playerOneWins = 0;
+        long playerTwoWins = 0;
+        long undecidedMatches = 0;
+        long rounds = 0;
+        long drawnRounds = 0;
+
+        for (long match = 0; match < matches; match++) {
+            GameState gameState = new GameState(RuleSet.classic(), endPolicy, false, eventSink);
+            if (batched) {
+                playBatched(gameState);
+                // Simulated matches use the standard scoring, one point per won round
+                drawnRounds += gameState.getRoundCount()
+                    - gameState.getPlayerScore(PlayerIndex.PLAYER_ONE)
+                    - gameState.getPlayerScore(PlayerIndex.PLAYER_TWO);
+            } else {
+                while (!gameState.isOver()) {
+                    RoundResult result = gameState.playRound(playerOne, playerTwo);
+                    if (result == RoundResult.DRAW) {
+                        drawnRounds++;
+                    }
+                }
+            }
+            rounds += gameState.getRoundCount();
+
+            PlayerIndex winner = gameState.getWinner().orElse(null);
+            if (winner == null) {
+                undecidedMatches++;
+            } else if (winner == PlayerIndex.PLAYER_ONE) {
+                playerOneWins++;
+            } else {
+                playerTwoWins++;
+            }
+        }
+
+        return new SimulationResult(matches, playerOneWins, playerTwoWins, undecidedMatches, rounds, drawnRounds);
+    }
+
+    /**
+     * Plays a match between two stateless strategies in blocks. Each block holds exactly the minimum
+     * number of rounds the match still needs, so no generated choice is wasted.
+     */
+    private void playBatched(GameState gameState) {
+        while (!gameState.isOver()) {
+            int block = Math.min(CHOICES_PER_BATCH, Math.max(1, gameState.minRoundsRemaining()));
+            playerOneStrategy.fillChoices(playerOneChoices, 0, block);
+            playerTwoStrategy.fillChoices(playerTwoChoices, 0, block);
+            gameState.playRounds(playerOneChoices, playerTwoChoices, 0, block);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.lefpap.simulation;
+
+/**
+ * Aggregate statistics of a batch of simulated matches.
+ *
+ * <p>
+ * All counts are taken from the perspective of the strategy pairing that was simulated:
+ * player one is the first strategy passed to the {@link MatchSimulator}, player two the second.
+ * A match is counted as undecided when it ended without a winner, e.g. because it reached
+ * the round cap of the simulator before either player reached the winning score.
+ * </p>
+ *
+ * @param matches           the number of matches played
+ * @param playerOneWins     the number of matches won by player one
+ * @param playerTwoWins     the number of matches won by player two
+ * @param undecidedMatches  the number of matches that ended without a winner
+ * @param rounds            the total number of rounds played across all matches
+ * @param drawnRounds       the number of rounds that ended in a draw
+ */
+public record SimulationResult(
+    long matches,
+    long playerOneWins,
+    long playerTwoWins,
+    long undecidedMatches,
+    long rounds,
+    long drawnRounds
+) {
+
+    /**
+     * An empty result, useful as the identity when merging results.
+     */
+    public static final SimulationResult EMPTY = new SimulationResult(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Combines this result with another one by summing all counts.
+     *
+     * @param other the result to merge with
+     * @return a new {@code SimulationResult} holding the summed counts
+     */
+    public SimulationResult merge(SimulationResult other) {
+        return new SimulationResult(
+            matches + other.matches,
+            playerOneWins + other.playerOneWins,
+            playerTwoWins + other.playerTwoWins,
+            undecidedMatches + other.undecidedMatches,
+            rounds + other.rounds,
+            drawnRounds + other.drawnRounds
+        );
+    }
+
+    /**
+     * Swaps the roles of the two players, so that the result is seen from player two's side.
+     *
+     * @return a new {@code SimulationResult} with the win counts of both players swapped
+     */
+    public SimulationResult mirrored() {
+        return new SimulationResult(matches, playerTwoWins, playerOneWins, undecidedMatches, rounds, drawnRounds);
+    }
+
+    /**
+     * Gets the fraction of matches won by player one.
+     *
+     * @return the win rate of player one, or {@code 0} if no matches were played
+     */
+    public double playerOneWinRate() {
+        return matches == 0 ? 0 : (double) playerOneWins / matches;
+    }
+
+    /**
+     * Gets the fraction of matches won by player two.
+     *
+     * @return the win rate of player two, or {@code 0} if no matches were played
+     */
+    public double playerTwoWinRate() {
+        return matches == 0 ? 0 : (double) playerTwoWins / matches;
+    }
+
+    /**
+     * Gets the average number of rounds per match.
+     *
+     * @return the average match length in rounds, or {@code 0} if no matches were played
+     */
+    public double averageRounds() {
+        return matches == 0 ? 0 : (double) rounds / matches;
+    }
+}
@@ -0,0 +1,27 @@
+package com.lefpap.simulation;
+
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates fresh {@link PlayerChoiceStrategy} instances for headless simulations.
+ *
+ * <p>
+ * Strategies are generally not thread-safe and may hold per-match state, so parallel runners
+ * create a new instance per unit of work. The supplied {@link RandomGenerator} is owned by
+ * that unit of work and should be the only source of randomness of the created strategy,
+ * which keeps results reproducible regardless of how work is scheduled across threads.
+ * </p>
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * Creates a new strategy instance.
+     *
+     * @param rnd the random number generator dedicated to the created strategy
+     * @return a new {@link PlayerChoiceStrategy}
+     */
+    PlayerChoiceStrategy create(RandomGenerator rnd);
+}
@@ -0,0 +1,161 @@
+package com.lefpap.simulation;
+
+import com.lefpap.random.RandomStreams;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Runs a headless round-robin tournament between many strategies on a {@link ForkJoinPool}.
+ *
+ * <p>
+ * Every pair of distinct entrants plays the same number of matches. The matches of a pairing
+ * are recursively partitioned into batches of at most {@link #MATCHES_PER_BATCH} matches, and
+ * each batch runs on its own {@link MatchSimulator} with freshly created strategies.
+ * </p>
+ *
+ * <p>
+ * Randomness is derived from a single seed: a splittable generator is split once per pairing
+ * and then again alongside every partition of the match range. Since the partitioning only
+ * depends on the number of matches, each batch always receives the same random stream, and
+ * the tournament result is identical regardless of the number of worker threads.
+ * </p>
+ */
+public class Tournament {
+
+    /**
+     * The maximum number of matches played by a single fork-join leaf task.
+     */
+    public static final long MATCHES_PER_BATCH = 1_024;
+
+    private final List<TournamentEntrant> entrants;
+    private final int scoreToWin;
+    private final long matchesPerPairing;
+    private final long seed;
+
+    /**
+     * Constructs a new {@code Tournament}.
+     *
+     * @param entrants the participating entrants
+     * @param scoreToWin the score a player must reach to win a match
+     * @param matchesPerPairing the number of matches played by each pair of entrants
+     * @param seed the seed from which all random streams of the tournament are derived
+     * @throws IllegalArgumentException if fewer than two entrants are given,
+     *                                  or if {@code scoreToWin} or {@code matchesPerPairing} is not positive
+     */
+    public Tournament(List<TournamentEntrant> entrants, int scoreToWin, long matchesPerPairing, long seed) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two entrants: %d".formatted(entrants.size()));
+        }
+        if (scoreToWin <= 0) {
+            throw new IllegalArgumentException("Score to win must be positive: %d".formatted(scoreToWin));
+        }
+        if (matchesPerPairing <= 0) {
+            throw new IllegalArgumentException("Matches per pairing must be positive: %d".formatted(matchesPerPairing));
+        }
+
+        this.entrants = List.copyOf(entrants);
+        this.scoreToWin = scoreToWin;
+        this.matchesPerPairing = matchesPerPairing;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs the tournament on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @return the {@link TournamentResult}
+     */
+    public TournamentResult run() {
+        return run(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the tournament on the specified pool.
+     *
+     * @param pool the pool executing the match batches
+     * @return the {@link TournamentResult}
+     */
+    public TournamentResult run(ForkJoinPool pool) {
+        int size = entrants.size();
+        SplittableGenerator root = RandomStreams.create(seed);
+
+        // Split the per-pairing generators up front, in a fixed order
+        List<PairingTask> tasks = new ArrayList<>();
+        for (int one = 0; one < size; one++) {
+            for (int two = one + 1; two < size; two++) {
+                tasks.add(new PairingTask(entrants.get(one), entrants.get(two), 0, matchesPerPairing, root.split()));
+            }
+        }
+
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+
+        SimulationResult[][] results = new SimulationResult[size][size];
+        int taskIndex = 0;
+        for (int one = 0; one < size; one++) {
+            results[one][one] = SimulationResult.EMPTY;
+            for (int two = one + 1; two < size; two++) {
+                SimulationResult result = tasks.get(taskIndex++).join();
+                results[one][two] = result;
+                results[two][one] = result.mirrored();
+            }
+        }
+
+        List<String> names = entrants.stream().map(TournamentEntrant::name).toList();
+        return new TournamentResult(names, results);
+    }
+
+    /**
+     * Plays a range of matches of a single pairing, splitting the range (and its random stream) in halves
+     * until it fits in one batch.
+     */
+    private class PairingTask extends RecursiveTask<SimulationResult> {
+        // Tasks are never serialized; ForkJoinTask is Serializable for historical reasons only
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient TournamentEntrant playerOne;
+        private final transient TournamentEntrant playerTwo;
+        private final long from;
+        private final long to;
+        private final transient SplittableGenerator rnd;
+
+        PairingTask(TournamentEntrant playerOne, TournamentEntrant playerTwo, long from, long to, SplittableGenerator rnd) {
+            this.playerOne = playerOne;
+            this.playerTwo = playerTwo;
+            this.from = from;
+            this.to = to;
+            this.rnd = rnd;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            long matches = to - from;
+            if (matches <= MATCHES_PER_BATCH) {
+                MatchSimulator simulator = new MatchSimulator(
+                    playerOne.strategy().create(rnd.split()),
+                    playerTwo.strategy().create(rnd.split()),
+                    scoreToWin
+                );
+                return simulator.simulate(matches);
+            }
+
+            long middle = from + matches / 2;
+            PairingTask right = new PairingTask(playerOne, playerTwo, middle, to, rnd.split());
+            PairingTask left = new PairingTask(playerOne, playerTwo, from, middle, rnd);
+            right.fork();
+            SimulationResult leftResult = left.compute();
+            return leftResult.merge(right.join());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.lefpap.simulation;
+
+/**
+ * A named participant of a {@link Tournament}.
+ *
+ * @param name     the display name of the entrant
+ * @param strategy the factory creating the entrant's strategy instances
+ */
+public record TournamentEntrant(String name, StrategyFactory strategy) {
+}
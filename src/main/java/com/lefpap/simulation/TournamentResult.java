@@ -0,0 +1,71 @@
+package com.lefpap.simulation;
+
+import java.util.List;
+
+/**
+ * The outcome of a round-robin {@link Tournament}.
+ *
+ * <p>
+ * Results are stored per ordered pairing: {@link #getResult(int, int)} returns the statistics
+ * of entrant {@code row} playing as player one against entrant {@code column}. The diagonal
+ * holds {@link SimulationResult#EMPTY}, since entrants do not play against themselves.
+ * </p>
+ */
+public class TournamentResult {
+
+    private final List<String> entrants;
+    private final SimulationResult[][] results;
+
+    TournamentResult(List<String> entrants, SimulationResult[][] results) {
+        this.entrants = List.copyOf(entrants);
+        this.results = results;
+    }
+
+    /**
+     * Gets the names of the entrants, in the order used to index the results.
+     *
+     * @return the entrant names
+     */
+    public List<String> getEntrants() {
+        return entrants;
+    }
+
+    /**
+     * Retrieves the aggregated statistics of one entrant against another.
+     *
+     * @param row the index of the entrant seen as player one
+     * @param column the index of the opposing entrant
+     * @return the {@link SimulationResult} of the pairing
+     */
+    public SimulationResult getResult(int row, int column) {
+        return results[row][column];
+    }
+
+    /**
+     * Retrieves the fraction of matches entrant {@code row} won against entrant {@code column}.
+     *
+     * @param row the index of the entrant whose win rate is retrieved
+     * @param column the index of the opposing entrant
+     * @return the win rate of {@code row} against {@code column}
+     */
+    public double getWinRate(int row, int column) {
+        return results[row][column].playerOneWinRate();
+    }
+
+    /**
+     * Builds the full win-rate matrix, where cell {@code [i][j]} is the win rate of entrant {@code i}
+     * against entrant {@code j}.
+     *
+     * @return a new matrix of win rates
+     */
+    public double[][] winRateMatrix() {
+        int size = entrants.size();
+        double[][] matrix = new double[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                matrix[row][column] = getWinRate(row, column);
+            }
+        }
+        return matrix;
+    }
+}
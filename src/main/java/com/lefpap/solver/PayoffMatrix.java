@@ -0,0 +1,146 @@
+package com.lefpap.solver;
+
+import com.lefpap.gamestate.RuleSet;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The payoffs of a symmetric two-player zero-sum game.
+ *
+ * <p>
+ * Cell {@code (row, column)} holds what a player choosing {@code row} wins from an opponent choosing
+ * {@code column}. The game is symmetric and zero-sum, so the matrix is antisymmetric: the opponent
+ * wins {@code payoff(column, row) == -payoff(row, column)}. The value of such a game is {@code 0},
+ * which is what makes {@link StrategyEvaluator#exploitability(double[]) exploitability} directly
+ * comparable between strategies.
+ * </p>
+ *
+ * <p>
+ * The payoffs are stored in a single row-major {@code double[]}.
+ * </p>
+ */
+public final class PayoffMatrix {
+
+    private final int size;
+    private final double[] payoffs;
+
+    private PayoffMatrix(int size, double[] payoffs) {
+        this.size = size;
+        this.payoffs = payoffs;
+    }
+
+    /**
+     * Creates the payoff matrix of a rule set, where a win pays {@code 1} and a draw {@code 0}.
+     *
+     * @param rules the rule set
+     * @return the payoff matrix
+     */
+    public static PayoffMatrix of(RuleSet rules) {
+        double[] winPayoffs = new double[rules.size()];
+        Arrays.fill(winPayoffs, 1);
+        return weighted(rules, winPayoffs);
+    }
+
+    /**
+     * Creates the payoff matrix of a weighted variant of a rule set, where a win pays an amount that depends
+     * on the winning choice. The loser pays that same amount.
+     *
+     * @param rules the rule set
+     * @param winPayoffs the payoff of a win with each choice, indexed by choice
+     * @return the payoff matrix
+     * @throws IllegalArgumentException if there is not one payoff per choice, or a payoff is not positive and finite
+     */
+    public static PayoffMatrix weighted(RuleSet rules, double[] winPayoffs) {
+        int size = rules.size();
+        if (winPayoffs.length != size) {
+            throw new IllegalArgumentException("Expected %d payoffs: %d".formatted(size, winPayoffs.length));
+        }
+
+        double[] payoffs = new double[size * size];
+        for (int winner = 0; winner < size; winner++) {
+            double payoff = winPayoffs[winner];
+            if (!(payoff > 0) || Double.isInfinite(payoff)) {
+                throw new IllegalArgumentException("Payoff must be positive: %s".formatted(payoff));
+            }
+            for (int loser = 0; loser < size; loser++) {
+                if (rules.beats(winner, loser)) {
+                    payoffs[winner * size + loser] = payoff;
+                    payoffs[loser * size + winner] = -payoff;
+                }
+            }
+        }
+        return new PayoffMatrix(size, payoffs);
+    }
+
+    /**
+     * Creates a payoff matrix from explicit payoffs.
+     *
+     * @param payoffs the payoffs, indexed by row and then by column
+     * @return the payoff matrix
+     * @throws IllegalArgumentException if the payoffs are not square and antisymmetric
+     */
+    public static PayoffMatrix of(double[][] payoffs) {
+        int size = payoffs.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("Payoff matrix must not be empty");
+        }
+
+        double[] flat = new double[size * size];
+        for (int row = 0; row < size; row++) {
+            if (payoffs[row].length != size) {
+                throw new IllegalArgumentException("Payoff matrix is not square: row %d has %d columns"
+                    .formatted(row, payoffs[row].length));
+            }
+            for (int column = 0; column < size; column++) {
+                if (payoffs[row][column] != -payoffs[column][row]) {
+                    throw new IllegalArgumentException("Payoff matrix is not antisymmetric at (%d, %d)"
+                        .formatted(row, column));
+                }
+                flat[row * size + column] = payoffs[row][column];
+            }
+        }
+        return new PayoffMatrix(size, flat);
+    }
+
+    /**
+     * Gets the number of choices of the game.
+     *
+     * @return the number of rows (and columns) of the matrix
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets what a player choosing {@code row} wins from an opponent choosing {@code column}.
+     *
+     * @param row the choice of the player
+     * @param column the choice of the opponent
+     * @return the payoff of the player
+     * @throws IndexOutOfBoundsException if either choice is out of range
+     */
+    public double payoff(int row, int column) {
+        return payoffs[Objects.checkIndex(row, size) * size + Objects.checkIndex(column, size)];
+    }
+
+    double[] payoffs() {
+        return payoffs;
+    }
+
+    /**
+     * Computes what each choice wins on average against a mixed strategy.
+     *
+     * @param strategy the probability of each choice of the opponent
+     * @param out the array receiving the payoff of each choice
+     */
+    void payoffsAgainst(double[] strategy, double[] out) {
+        for (int row = 0, offset = 0; row < size; row++, offset += size) {
+            double payoff = 0;
+            for (int column = 0; column < size; column++) {
+                payoff += payoffs[offset + column] * strategy[column];
+            }
+            out[row] = payoff;
+        }
+    }
+}
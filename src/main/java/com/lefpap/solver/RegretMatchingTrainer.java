@@ -0,0 +1,149 @@
+package com.lefpap.solver;
+
+import com.lefpap.random.RandomStreams;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * Approximates an equilibrium strategy of a symmetric zero-sum game by regret matching in self-play.
+ *
+ * <p>
+ * For a one-shot game, counterfactual regret minimization reduces to regret matching: two players
+ * repeatedly play the game, each choosing in proportion to the positive part of its accumulated regret,
+ * and their average strategies converge to an equilibrium. Each iteration samples one choice of each
+ * player and updates the regrets of all choices of the other against it, so an iteration costs time
+ * linear in the number of choices. All state is kept in a handful of {@code double[]}.
+ * </p>
+ *
+ * <p>
+ * Training runs several independent chains in parallel, each on its own random stream
+ * {@link RandomStreams#forMatch(long, long) derived} from the seed, and averages their average strategies.
+ * The chains are summed in a fixed order, so the result only depends on the seed and the number of chains,
+ * never on the number of threads.
+ * </p>
+ */
+public class RegretMatchingTrainer {
+
+    private final PayoffMatrix payoffs;
+    private final int chains;
+    private final long seed;
+
+    /**
+     * Constructs a new {@code RegretMatchingTrainer}.
+     *
+     * @param payoffs the payoffs of the game
+     * @param chains the number of independent chains to train in parallel
+     * @param seed the seed from which the random streams of all chains are derived
+     * @throws IllegalArgumentException if {@code chains} is not positive
+     */
+    public RegretMatchingTrainer(PayoffMatrix payoffs, int chains, long seed) {
+        if (chains <= 0) {
+            throw new IllegalArgumentException("Number of chains must be positive: %d".formatted(chains));
+        }
+        this.payoffs = payoffs;
+        this.chains = chains;
+        this.seed = seed;
+    }
+
+    /**
+     * Trains all chains for the specified number of iterations.
+     *
+     * @param iterationsPerChain the number of iterations of every chain
+     * @return the approximate equilibrium strategy, as the probability of each choice
+     * @throws IllegalArgumentException if {@code iterationsPerChain} is not positive
+     */
+    public double[] train(long iterationsPerChain) {
+        if (iterationsPerChain <= 0) {
+            throw new IllegalArgumentException("Number of iterations must be positive: %d".formatted(iterationsPerChain));
+        }
+
+        double[][] chainSums = IntStream.range(0, chains)
+            .parallel()
+            .mapToObj(chain -> trainChain(RandomStreams.forMatch(seed, chain), iterationsPerChain))
+            .toArray(double[][]::new);
+
+        int size = payoffs.size();
+        double[] strategy = new double[size];
+        double total = 0;
+        for (double[] sums : chainSums) {
+            for (int choice = 0; choice < size; choice++) {
+                strategy[choice] += sums[choice];
+                total += sums[choice];
+            }
+        }
+        for (int choice = 0; choice < size; choice++) {
+            strategy[choice] /= total;
+        }
+        return strategy;
+    }
+
+    /**
+     * Runs a single chain and returns the sum of the strategies of both players over all iterations.
+     * In a symmetric game both average strategies approximate an equilibrium, and so does their mixture.
+     */
+    private double[] trainChain(RandomGenerator rnd, long iterations) {
+        int size = payoffs.size();
+        double[] playerOneRegrets = new double[size];
+        double[] playerTwoRegrets = new double[size];
+        double[] playerOneStrategy = new double[size];
+        double[] playerTwoStrategy = new double[size];
+        double[] strategySums = new double[size];
+
+        for (long iteration = 0; iteration < iterations; iteration++) {
+            regretMatching(playerOneRegrets, playerOneStrategy);
+            regretMatching(playerTwoRegrets, playerTwoStrategy);
+            for (int choice = 0; choice < size; choice++) {
+                strategySums[choice] += playerOneStrategy[choice] + playerTwoStrategy[choice];
+            }
+
+            int playerOneChoice = sample(playerOneStrategy, rnd);
+            int playerTwoChoice = sample(playerTwoStrategy, rnd);
+            updateRegrets(playerOneRegrets, playerOneStrategy, playerTwoChoice);
+            updateRegrets(playerTwoRegrets, playerTwoStrategy, playerOneChoice);
+        }
+        return strategySums;
+    }
+
+    /**
+     * Sets the strategy proportional to the positive regrets, or uniform if no regret is positive.
+     */
+    private static void regretMatching(double[] regrets, double[] strategy) {
+        double positiveSum = 0;
+        for (double regret : regrets) {
+            positiveSum += Math.max(regret, 0);
+        }
+        for (int choice = 0; choice < regrets.length; choice++) {
+            strategy[choice] = positiveSum > 0 ? Math.max(regrets[choice], 0) / positiveSum : 1.0 / regrets.length;
+        }
+    }
+
+    /**
+     * Adds the regret of every choice against the sampled choice of the opponent. Since the matrix is
+     * antisymmetric, the payoffs of all choices against the opponent's choice are the negated row of that choice.
+     */
+    private void updateRegrets(double[] regrets, double[] strategy, int opponentChoice) {
+        double[] matrix = payoffs.payoffs();
+        int row = opponentChoice * regrets.length;
+
+        double expected = 0;
+        for (int choice = 0; choice < regrets.length; choice++) {
+            expected -= strategy[choice] * matrix[row + choice];
+        }
+        for (int choice = 0; choice < regrets.length; choice++) {
+            regrets[choice] += -matrix[row + choice] - expected;
+        }
+    }
+
+    private static int sample(double[] strategy, RandomGenerator rnd) {
+        double threshold = rnd.nextDouble();
+        int last = strategy.length - 1;
+        for (int choice = 0; choice < last; choice++) {
+            threshold -= strategy[choice];
+            if (threshold < 0) {
+                return choice;
+            }
+        }
+        return last;
+    }
+}
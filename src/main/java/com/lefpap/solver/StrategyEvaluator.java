@@ -0,0 +1,160 @@
+package com.lefpap.solver;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.player.Player;
+import com.lefpap.player.PlayerIndex;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+import com.lefpap.player.strategy.RandomChoiceStrategy;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Measures how exploitable a strategy is in a symmetric zero-sum game.
+ *
+ * <p>
+ * The exploitability of a mixed strategy is what a best-response opponent, who knows the strategy
+ * but not the individual choices, wins against it on average. Since the game has value {@code 0},
+ * an equilibrium strategy has exploitability {@code 0} and every other strategy a positive one.
+ * Computing it takes a single matrix-vector product.
+ * </p>
+ *
+ * <p>
+ * A {@link PlayerChoiceStrategy} is evaluated through its {@link #empiricalStrategy empirical} mixed
+ * strategy, sampled by playing it in a real match. This captures the choice frequencies of any strategy,
+ * but not the sequential patterns an adaptive opponent could additionally exploit.
+ * </p>
+ */
+public class StrategyEvaluator {
+
+    private final PayoffMatrix payoffs;
+
+    /**
+     * Constructs a new {@code StrategyEvaluator}.
+     *
+     * @param payoffs the payoffs of the game
+     */
+    public StrategyEvaluator(PayoffMatrix payoffs) {
+        this.payoffs = payoffs;
+    }
+
+    /**
+     * Computes the average payoff of a player against an opponent, both playing mixed strategies.
+     *
+     * @param strategy the probability of each choice of the player
+     * @param opponent the probability of each choice of the opponent
+     * @return the expected payoff of the player
+     * @throws IllegalArgumentException if a strategy does not have one probability per choice
+     */
+    public double expectedPayoff(double[] strategy, double[] opponent) {
+        double[] payoffsAgainst = payoffsAgainst(opponent);
+        checkLength(strategy);
+
+        double payoff = 0;
+        for (int choice = 0; choice < strategy.length; choice++) {
+            payoff += strategy[choice] * payoffsAgainst[choice];
+        }
+        return payoff;
+    }
+
+    /**
+     * Finds the best response to a mixed strategy.
+     *
+     * @param strategy the probability of each choice of the opponent
+     * @return the choice that wins the most on average against the strategy (the lowest one, on ties)
+     * @throws IllegalArgumentException if the strategy does not have one probability per choice
+     */
+    public int bestResponse(double[] strategy) {
+        double[] payoffsAgainst = payoffsAgainst(strategy);
+        int best = 0;
+        for (int choice = 1; choice < payoffsAgainst.length; choice++) {
+            if (payoffsAgainst[choice] > payoffsAgainst[best]) {
+                best = choice;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Computes the exploitability of a mixed strategy.
+     *
+     * @param strategy the probability of each choice
+     * @return what a best-response opponent wins on average against the strategy
+     * @throws IllegalArgumentException if the strategy does not have one probability per choice
+     */
+    public double exploitability(double[] strategy) {
+        double[] payoffsAgainst = payoffsAgainst(strategy);
+        double max = Double.NEGATIVE_INFINITY;
+        for (double payoff : payoffsAgainst) {
+            max = Math.max(max, payoff);
+        }
+        return max;
+    }
+
+    /**
+     * Computes the exploitability of a strategy from its {@link #empiricalStrategy empirical} mixed strategy.
+     *
+     * @param strategy the strategy to evaluate
+     * @param rounds the number of rounds to sample
+     * @param rnd the random generator of the sampling opponent
+     * @return what a best-response opponent wins on average against the strategy
+     * @throws IllegalArgumentException if {@code rounds} is not positive, or the game does not have one
+     *                                  choice per {@link com.lefpap.player.PlayerChoice}
+     */
+    public double exploitability(PlayerChoiceStrategy strategy, int rounds, RandomGenerator rnd) {
+        return exploitability(empiricalStrategy(strategy, rounds, rnd));
+    }
+
+    /**
+     * Samples the mixed strategy of a {@link PlayerChoiceStrategy} of the classic game.
+     *
+     * <p>
+     * The strategy plays the specified number of rounds as Player One of a single match against
+     * a uniformly random opponent, and the frequency of each of its choices is returned. Adaptive
+     * strategies see the match like in any other game.
+     * </p>
+     *
+     * @param strategy the strategy to sample
+     * @param rounds the number of rounds to play
+     * @param rnd the random generator of the opponent
+     * @return the frequency of each choice, indexed by {@link com.lefpap.player.PlayerChoice#ordinal() ordinal}
+     * @throws IllegalArgumentException if {@code rounds} is not positive
+     */
+    public static double[] empiricalStrategy(PlayerChoiceStrategy strategy, int rounds, RandomGenerator rnd) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Number of rounds must be positive: %d".formatted(rounds));
+        }
+
+        Player player = new Player("Evaluated", strategy);
+        Player opponent = new Player("Opponent", new RandomChoiceStrategy(rnd));
+        GameState gameState = new GameState(
+            RuleSet.classic(), MatchEndPolicy.firstTo(Integer.MAX_VALUE), false, MatchEventSink.NONE);
+
+        long[] counts = new long[RuleSet.classic().size()];
+        for (int round = 0; round < rounds; round++) {
+            gameState.playRound(player, opponent);
+            counts[gameState.getLastChoiceIndex(PlayerIndex.PLAYER_ONE)]++;
+        }
+
+        double[] frequencies = new double[counts.length];
+        for (int choice = 0; choice < counts.length; choice++) {
+            frequencies[choice] = (double) counts[choice] / rounds;
+        }
+        return frequencies;
+    }
+
+    private double[] payoffsAgainst(double[] strategy) {
+        checkLength(strategy);
+        double[] payoffsAgainst = new double[payoffs.size()];
+        payoffs.payoffsAgainst(strategy, payoffsAgainst);
+        return payoffsAgainst;
+    }
+
+    private void checkLength(double[] strategy) {
+        if (strategy.length != payoffs.size()) {
+            throw new IllegalArgumentException("Expected %d probabilities: %d".formatted(payoffs.size(), strategy.length));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.lefpap.analytics;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundAnalyticsTest {
+
+    private static final int ROCK = PlayerChoice.ROCK.ordinal();
+    private static final int PAPER = PlayerChoice.PAPER.ordinal();
+    private static final int SCISSORS = PlayerChoice.SCISSORS.ordinal();
+
+    @Test
+    void test_choiceFrequencies() {
+        RoundColumns columns = new RoundColumns();
+        columns.visit(1, 1, ROCK, PAPER);
+        columns.visit(1, 2, ROCK, SCISSORS);
+        columns.visit(1, 3, PAPER, SCISSORS);
+
+        RoundAnalytics analytics = new RoundAnalytics(columns);
+
+        assertArrayEquals(new long[]{2, 1, 0}, analytics.choiceFrequencies(PlayerIndex.PLAYER_ONE));
+        assertArrayEquals(new long[]{0, 1, 2}, analytics.choiceFrequencies(PlayerIndex.PLAYER_TWO));
+    }
+
+    @Test
+    void test_winRateByChoice() {
+        RoundColumns columns = new RoundColumns();
+        columns.visit(1, 1, ROCK, SCISSORS);  // rock wins
+        columns.visit(1, 2, ROCK, PAPER);     // paper wins
+        columns.visit(1, 3, ROCK, ROCK);      // draw
+
+        double[] winRates = new RoundAnalytics(columns).winRateByChoice();
+
+        assertEquals(1.0 / 3, winRates[ROCK], 1e-9);
+        assertEquals(1.0, winRates[PAPER]);
+        assertEquals(0.0, winRates[SCISSORS]);
+    }
+
+    @Test
+    void test_transitionMatrix_ignoresMatchBoundaries() {
+        RoundColumns columns = new RoundColumns();
+        columns.visit(1, 1, ROCK, ROCK);
+        columns.visit(1, 2, PAPER, ROCK);
+        columns.visit(1, 3, PAPER, ROCK);
+        columns.visit(2, 1, SCISSORS, ROCK);
+
+        long[][] matrix = new RoundAnalytics(columns).transitionMatrix(PlayerIndex.PLAYER_ONE);
+
+        assertEquals(1, matrix[ROCK][PAPER]);
+        assertEquals(1, matrix[PAPER][PAPER]);
+        assertEquals(0, matrix[PAPER][SCISSORS]);
+    }
+
+    @Test
+    void test_longestWinStreak_afterSortingInterleavedMatches() {
+        RoundColumns columns = new RoundColumns();
+        columns.visit(2, 1, PAPER, ROCK);
+        columns.visit(1, 1, PAPER, ROCK);
+        columns.visit(2, 2, PAPER, ROCK);
+        columns.visit(1, 2, ROCK, PAPER);
+        columns.visit(2, 3, PAPER, ROCK);
+        columns.visit(1, 3, PAPER, ROCK);
+
+        columns.sortByMatch();
+        RoundAnalytics analytics = new RoundAnalytics(columns);
+
+        assertEquals(3, analytics.longestWinStreak(PlayerIndex.PLAYER_ONE));
+        assertEquals(1, analytics.longestWinStreak(PlayerIndex.PLAYER_TWO));
+        assertEquals(2, analytics.transitionMatrix(PlayerIndex.PLAYER_ONE)[PAPER][PAPER]);
+    }
+
+    @Test
+    void test_parallelChunks_matchSequentialCount() {
+        Random random = new Random(3);
+        RoundColumns columns = new RoundColumns();
+        long[] expected = new long[3];
+        for (int round = 1; round <= 300_000; round++) {
+            int choice = random.nextInt(3);
+            expected[choice]++;
+            columns.visit(round / 100, round % 100, choice, random.nextInt(3));
+        }
+
+        assertArrayEquals(expected, new RoundAnalytics(columns).choiceFrequencies(PlayerIndex.PLAYER_ONE));
+    }
+}
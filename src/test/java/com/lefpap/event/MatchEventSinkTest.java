@@ -0,0 +1,89 @@
+package com.lefpap.event;
+
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.PlayerChoice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchEventSinkTest {
+
+    @Test
+    void test_gameState_publishesEventsInOrder() {
+        List<String> events = new ArrayList<>();
+        MatchEventSink recorder = new MatchEventSink() {
+            @Override
+            public void onMatchStarted(MatchView match) {
+                events.add("started");
+            }
+
+            @Override
+            public void onRoundResolved(MatchView match) {
+                events.add("round " + match.getRoundCount() + " " + match.getLastResult());
+            }
+
+            @Override
+            public void onMatchFinished(MatchView match) {
+                events.add("finished " + match.getWinner().orElseThrow());
+            }
+        };
+
+        GameState gameState = new GameState(2, false, recorder);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.ROCK);
+        gameState.playRound(PlayerChoice.PAPER, PlayerChoice.ROCK);
+        gameState.playRound(PlayerChoice.PAPER, PlayerChoice.ROCK);
+        gameState.playRound(PlayerChoice.PAPER, PlayerChoice.ROCK);
+
+        assertEquals(List.of(
+            "started",
+            "round 1 DRAW",
+            "round 2 PLAYER_ONE_WINS",
+            "round 3 PLAYER_ONE_WINS",
+            "finished PLAYER_ONE",
+            "round 4 PLAYER_ONE_WINS"
+        ), events);
+    }
+
+    @Test
+    void test_eventCounter_withCompositeSink() {
+        EventCounter first = new EventCounter();
+        EventCounter second = new EventCounter();
+
+        GameState gameState = new GameState(1, false, MatchEventSink.of(first, second));
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.ROCK);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER);
+
+        for (EventCounter counter : List.of(first, second)) {
+            assertEquals(1, counter.getMatchesStarted());
+            assertEquals(1, counter.getMatchesFinished());
+            assertEquals(2, counter.getRounds());
+            assertEquals(1, counter.getRounds(RoundResult.DRAW));
+            assertEquals(1, counter.getRounds(RoundResult.PLAYER_TWO_WINS));
+            assertEquals(0, counter.getRounds(RoundResult.PLAYER_ONE_WINS));
+        }
+    }
+
+    @Test
+    void test_bufferedFileSink_writesLines(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("events.csv");
+        try (BufferedFileEventSink sink = new BufferedFileEventSink(file)) {
+            GameState gameState = new GameState(1, false, sink);
+            gameState.playRound(PlayerChoice.SCISSORS, PlayerChoice.PAPER);
+        }
+
+        assertEquals(List.of(
+            "started,1",
+            "round,1,SCISSORS,PAPER,PLAYER_ONE_WINS,1,0",
+            "finished,PLAYER_ONE,1"
+        ), Files.readAllLines(file));
+    }
+}
@@ -1,12 +1,26 @@
 package com.lefpap.gamestate;
 
+import com.lefpap.event.MatchEventSink;
 import com.lefpap.player.Player;
 import com.lefpap.player.PlayerChoice;
 import com.lefpap.player.PlayerIndex;
 import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+import com.lefpap.player.strategy.RandomChoiceStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameStateTest {
@@ -120,4 +134,200 @@ class GameStateTest {
         assertEquals(1, gameState.getPlayerScore(PlayerIndex.PLAYER_TWO));
     }
 
-}
\ No newline at end of file
+    @Test
+    void test_withoutRoundHistory_tracksScoresAndWinner() {
+        GameState headless = new GameState(2, false);
+
+        assertEquals(RoundResult.PLAYER_TWO_WINS, headless.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER));
+        assertEquals(RoundResult.DRAW, headless.playRound(PlayerChoice.ROCK, PlayerChoice.ROCK));
+        assertFalse(headless.hasWinner());
+        assertEquals(RoundResult.PLAYER_TWO_WINS, headless.playRound(PlayerChoice.SCISSORS, PlayerChoice.ROCK));
+
+        assertTrue(headless.hasWinner());
+        assertEquals(PlayerIndex.PLAYER_TWO, headless.getWinner().orElseThrow());
+        assertEquals(3, headless.getRoundCount());
+        assertTrue(headless.getCurrentRound().isEmpty());
+    }
+
+    @Test
+    void test_playRounds_stopsExactlyAtWinningRound() {
+        byte[] playerOneChoices = {0, 0, 0, 0, 0, 0, 0, 0};
+        byte[] playerTwoChoices = {2, 1, 2, 0, 0, 2, 2, 2};
+
+        assertEquals(6, gameState.playRounds(playerOneChoices, playerTwoChoices, 0, 8));
+
+        assertEquals(PlayerIndex.PLAYER_ONE, gameState.getWinner().orElseThrow());
+        assertEquals(6, gameState.getRoundCount());
+        assertEquals(PlayerChoice.SCISSORS, gameState.getLastChoice(PlayerIndex.PLAYER_TWO));
+        assertEquals(RoundResult.PLAYER_ONE_WINS, gameState.getLastResult());
+        assertEquals(RoundResult.PLAYER_TWO_WINS, gameState.getRound(2).getResult());
+        assertEquals(0, gameState.playRounds(playerOneChoices, playerTwoChoices, 6, 2));
+    }
+
+    @Test
+    void test_playRounds_matchesRoundByRoundPlay() {
+        PlayerChoiceStrategy random = new RandomChoiceStrategy(new Random(11));
+        byte[] playerOneChoices = new byte[300];
+        byte[] playerTwoChoices = new byte[300];
+        random.fillChoices(playerOneChoices, 0, 300);
+        random.fillChoices(playerTwoChoices, 0, 300);
+
+        GameState batched = new GameState(RuleSet.classic(), MatchEndPolicy.bestOf(201), true, MatchEventSink.NONE);
+        GameState single = new GameState(RuleSet.classic(), MatchEndPolicy.bestOf(201), true, MatchEventSink.NONE);
+        int played = batched.playRounds(playerOneChoices, playerTwoChoices, 0, 300);
+        while (!single.isOver()) {
+            int round = single.getRoundCount();
+            single.playRound(playerOneChoices[round], playerTwoChoices[round]);
+        }
+
+        assertEquals(single.getRoundCount(), played);
+        assertEquals(single.getStatus(), batched.getStatus());
+        assertEquals(single.getPlayerScore(PlayerIndex.PLAYER_ONE), batched.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertEquals(single.getPlayerScore(PlayerIndex.PLAYER_TWO), batched.getPlayerScore(PlayerIndex.PLAYER_TWO));
+        assertEquals(single.getLastResult(), batched.getLastResult());
+        assertEquals(single.getCurrentRound().orElseThrow().getResult(), batched.getCurrentRound().orElseThrow().getResult());
+    }
+
+    @Test
+    void test_playRound_withExecutor_collectsChoicesConcurrently() {
+        CountDownLatch bothChoosing = new CountDownLatch(2);
+        playerOne.setChoiceStrategy(() -> awaitOther(bothChoosing, PlayerChoice.PAPER));
+        playerTwo.setChoiceStrategy(() -> awaitOther(bothChoosing, PlayerChoice.ROCK));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertEquals(RoundResult.PLAYER_ONE_WINS, gameState.playRound(playerOne, playerTwo, executor));
+        }
+        assertEquals(1, gameState.getPlayerScore(PlayerIndex.PLAYER_ONE));
+    }
+
+    @Test
+    void test_winner_isKeptAfterFurtherRounds() {
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+
+        assertEquals(PlayerIndex.PLAYER_ONE, gameState.getWinner().orElseThrow());
+    }
+
+    @Test
+    void test_snapshot_restoresMatchInProgress() {
+        gameState.playRound(PlayerChoice.PAPER, PlayerChoice.ROCK);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.ROCK);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER);
+
+        byte[] snapshot = gameState.snapshot();
+        assertEquals(gameState.snapshotSize(), snapshot.length);
+
+        GameState restored = GameState.restore(snapshot, RuleSet.classic(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE);
+        assertEquals(3, restored.getRoundCount());
+        assertEquals(1, restored.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertEquals(1, restored.getPlayerScore(PlayerIndex.PLAYER_TWO));
+        assertEquals(PlayerChoice.PAPER, restored.getLastChoice(PlayerIndex.PLAYER_TWO));
+        assertEquals(RoundResult.PLAYER_TWO_WINS, restored.getLastResult());
+        assertEquals(PlayerChoice.PAPER, restored.getRound(1).getPlayerChoice(PlayerIndex.PLAYER_ONE));
+        assertEquals(MatchStatus.IN_PROGRESS, restored.getStatus());
+
+        // Both copies continue identically
+        for (GameState state : List.of(gameState, restored)) {
+            state.playRound(PlayerChoice.SCISSORS, PlayerChoice.PAPER);
+            state.playRound(PlayerChoice.SCISSORS, PlayerChoice.PAPER);
+        }
+        assertEquals(gameState.getWinner(), restored.getWinner());
+        assertArrayEquals(gameState.snapshot(), restored.snapshot());
+    }
+
+    @Test
+    void test_snapshot_toBufferOfManyMatches() {
+        GameState other = new GameState(RuleSet.rockPaperScissorsLizardSpock(), 5, false, MatchEventSink.NONE);
+        other.playRound(4, 1);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+
+        ByteBuffer buffer = ByteBuffer.allocate(gameState.snapshotSize() + other.snapshotSize());
+        gameState.snapshot(buffer);
+        other.snapshot(buffer);
+        assertFalse(buffer.hasRemaining());
+
+        buffer.flip();
+        GameState first = GameState.restore(buffer, RuleSet.classic(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE);
+        GameState second = GameState.restore(
+            buffer, RuleSet.rockPaperScissorsLizardSpock(), MatchEndPolicy.firstTo(5), MatchEventSink.NONE);
+        assertFalse(buffer.hasRemaining());
+
+        assertEquals(1, first.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertEquals(4, second.getLastChoiceIndex(PlayerIndex.PLAYER_ONE));
+        assertEquals(other.getPlayerScore(PlayerIndex.PLAYER_TWO), second.getPlayerScore(PlayerIndex.PLAYER_TWO));
+        assertTrue(second.getCurrentRound().isEmpty());
+    }
+
+    @Test
+    void test_restore_rejectsMismatchedOrCorruptSnapshots() {
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        byte[] snapshot = gameState.snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(
+            snapshot, RuleSet.rockPaperScissorsLizardSpock(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE));
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(
+            snapshot, RuleSet.classic(), MatchEndPolicy.firstTo(4), MatchEventSink.NONE));
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(
+            Arrays.copyOf(snapshot, snapshot.length - 1), RuleSet.classic(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE));
+
+        byte[] corrupt = snapshot.clone();
+        corrupt[corrupt.length - 1] = 3;
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(
+            corrupt, RuleSet.classic(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE));
+
+        // A round count large enough to overflow the size of the recorded rounds
+        byte[] oversized = snapshot.clone();
+        ByteBuffer.wrap(oversized).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(SnapshotFormat.ROUND_COUNT_OFFSET, Integer.MAX_VALUE)
+            .putInt(SnapshotFormat.RECORDED_ROUNDS_OFFSET, Integer.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(
+            oversized, RuleSet.classic(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE));
+
+        byte[] notASnapshot = new byte[snapshot.length];
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(
+            notASnapshot, RuleSet.classic(), MatchEndPolicy.firstTo(3), MatchEventSink.NONE));
+    }
+
+    @Test
+    void test_playRound_withPlayers_exposesMatchView() {
+        List<MatchView> observedViews = new ArrayList<>();
+        playerTwo.setChoiceStrategy(new PlayerChoiceStrategy() {
+            @Override
+            public PlayerChoice makeChoice() {
+                return PlayerChoice.PAPER;
+            }
+
+            @Override
+            public void onRoundResolved(MatchView match, PlayerIndex self) {
+                assertEquals(PlayerIndex.PLAYER_TWO, self);
+                observedViews.add(match);
+            }
+        });
+
+        assertNull(gameState.getLastResult());
+        assertEquals(RoundResult.PLAYER_TWO_WINS, gameState.playRound(playerOne, playerTwo));
+
+        assertEquals(List.of(gameState), observedViews);
+        assertEquals(1, gameState.getRoundCount());
+        assertEquals(3, gameState.getScoreToWin());
+        assertEquals(PlayerChoice.ROCK, gameState.getLastChoice(PlayerIndex.PLAYER_ONE));
+        assertEquals(PlayerChoice.PAPER, gameState.getLastChoice(PlayerIndex.PLAYER_TWO));
+        assertEquals(RoundResult.PLAYER_TWO_WINS, gameState.getLastResult());
+    }
+
+    /**
+     * Makes a choice only once the other player is choosing as well,
+     * which times out if the choices are collected one after the other.
+     */
+    private static PlayerChoice awaitOther(CountDownLatch bothChoosing, PlayerChoice choice) {
+        bothChoosing.countDown();
+        try {
+            assertTrue(bothChoosing.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return choice;
+    }
+}
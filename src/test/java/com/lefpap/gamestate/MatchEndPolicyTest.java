@@ -0,0 +1,149 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchEndPolicyTest {
+
+    private static final MatchEndPolicy UNENDING = new MatchEndPolicy() {
+        @Override
+        public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount) {
+            return MatchStatus.IN_PROGRESS;
+        }
+
+        @Override
+        public int getScoreToWin() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount) {
+            return Integer.MAX_VALUE;
+        }
+    };
+
+    @Test
+    void test_firstTo() {
+        MatchEndPolicy policy = MatchEndPolicy.firstTo(3);
+
+        assertEquals(MatchStatus.IN_PROGRESS, policy.evaluate(2, 2, 10));
+        assertEquals(MatchStatus.PLAYER_TWO_WINS, policy.evaluate(1, 3, 4));
+        assertEquals(3, policy.getScoreToWin());
+        assertEquals(1, policy.minRoundsRemaining(2, 1, 3));
+    }
+
+    @Test
+    void test_bestOf_endsOnceTrailingPlayerCannotCatchUp() {
+        MatchEndPolicy policy = MatchEndPolicy.bestOf(101);
+
+        assertEquals(MatchStatus.IN_PROGRESS, policy.evaluate(40, 20, 60));
+        assertEquals(MatchStatus.PLAYER_ONE_WINS, policy.evaluate(51, 0, 51));
+        assertEquals(MatchStatus.PLAYER_ONE_WINS, policy.evaluate(42, 0, 60));
+        assertEquals(MatchStatus.UNDECIDED, policy.evaluate(50, 50, 101));
+        assertEquals(51, policy.getScoreToWin());
+        assertEquals(51, policy.minRoundsRemaining(0, 0, 0));
+    }
+
+    @Test
+    void test_bestOf_minRoundsRemaining_isExact() {
+        MatchEndPolicy policy = MatchEndPolicy.bestOf(9);
+        for (int roundCount = 0; roundCount < 9; roundCount++) {
+            for (int one = 0; one <= roundCount; one++) {
+                for (int two = 0; one + two <= roundCount; two++) {
+                    if (policy.evaluate(one, two, roundCount).isOver()) {
+                        continue;
+                    }
+                    // The match ends exactly when the leader has won the minimum number of rounds in a row
+                    int rounds = policy.minRoundsRemaining(one, two, roundCount);
+                    int leaderBonus = one >= two ? 1 : 0;
+                    for (int played = 1; played <= rounds; played++) {
+                        MatchStatus status = policy.evaluate(
+                            one + played * leaderBonus,
+                            two + played * (1 - leaderBonus),
+                            roundCount + played
+                        );
+                        assertEquals(played == rounds, status.isOver());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void test_winByTwo() {
+        MatchEndPolicy policy = MatchEndPolicy.winByTwo(3);
+
+        assertEquals(MatchStatus.IN_PROGRESS, policy.evaluate(3, 2, 5));
+        assertEquals(MatchStatus.IN_PROGRESS, policy.evaluate(5, 4, 9));
+        assertEquals(MatchStatus.PLAYER_ONE_WINS, policy.evaluate(6, 4, 10));
+        assertEquals(MatchStatus.PLAYER_TWO_WINS, policy.evaluate(1, 3, 4));
+        assertEquals(2, policy.minRoundsRemaining(4, 4, 8));
+    }
+
+    @Test
+    void test_withRoundCap() {
+        MatchEndPolicy policy = MatchEndPolicy.firstTo(3).withRoundCap(10);
+
+        assertEquals(MatchStatus.IN_PROGRESS, policy.evaluate(0, 0, 9));
+        assertEquals(MatchStatus.UNDECIDED, policy.evaluate(2, 2, 10));
+        assertEquals(MatchStatus.PLAYER_ONE_WINS, policy.evaluate(3, 2, 10));
+        assertEquals(2, policy.minRoundsRemaining(0, 0, 8));
+    }
+
+    @Test
+    void test_spec_describesBuiltInPolicies() {
+        MatchEndPolicy.Spec spec = MatchEndPolicy.bestOf(5).withRoundCap(8).withRoundCap(10).getSpec().orElseThrow();
+
+        assertEquals(new MatchEndPolicy.Spec(MatchEndPolicy.Kind.BEST_OF, 5, 8), spec);
+        assertEquals("best of 5, at most 8 rounds", spec.toPolicy().toString());
+        assertEquals(
+            new MatchEndPolicy.Spec(MatchEndPolicy.Kind.WIN_BY_TWO, 3, 0),
+            MatchEndPolicy.winByTwo(3).getSpec().orElseThrow()
+        );
+
+        assertTrue(UNENDING.withRoundCap(3).getSpec().isEmpty());
+    }
+
+    @Test
+    void test_gameState_endsEarlyAndKeepsStatus() {
+        GameState gameState = new GameState(RuleSet.classic(), MatchEndPolicy.bestOf(5), false, MatchEventSink.NONE);
+
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        assertFalse(gameState.isOver());
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+
+        assertTrue(gameState.isOver());
+        assertEquals(PlayerIndex.PLAYER_ONE, gameState.getWinner().orElseThrow());
+
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER);
+        assertEquals(MatchStatus.PLAYER_ONE_WINS, gameState.getStatus());
+    }
+
+    @Test
+    void test_gameState_undecidedAfterRoundCap() {
+        GameState gameState = new GameState(
+            RuleSet.classic(), MatchEndPolicy.winByTwo(1).withRoundCap(4), false, MatchEventSink.NONE
+        );
+
+        for (int round = 0; round < 4; round++) {
+            gameState.playRound(PlayerChoice.ROCK, PlayerChoice.ROCK);
+        }
+
+        assertEquals(MatchStatus.UNDECIDED, gameState.getStatus());
+        assertTrue(gameState.isOver());
+        assertFalse(gameState.hasWinner());
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MatchEndPolicy.firstTo(0));
+        assertThrows(IllegalArgumentException.class, () -> MatchEndPolicy.bestOf(-1));
+        assertThrows(IllegalArgumentException.class, () -> MatchEndPolicy.winByTwo(0));
+        assertThrows(IllegalArgumentException.class, () -> MatchEndPolicy.firstTo(1).withRoundCap(0));
+    }
+}
@@ -0,0 +1,95 @@
+package com.lefpap.gamestate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiPlayerGameStateTest {
+
+    private static final int ROCK = 0;
+    private static final int PAPER = 1;
+    private static final int SCISSORS = 2;
+
+    @Test
+    void test_playRound_awardsEveryPlayerWithWinningChoice() {
+        MultiPlayerGameState gameState = new MultiPlayerGameState(4, 3);
+
+        assertEquals(2, gameState.playRound(ROCK, SCISSORS, ROCK, SCISSORS));
+
+        assertEquals(1, gameState.getPlayerScore(0));
+        assertEquals(0, gameState.getPlayerScore(1));
+        assertEquals(1, gameState.getPlayerScore(2));
+        assertTrue(gameState.wonLastRound(2));
+        assertFalse(gameState.wonLastRound(3));
+        assertEquals(SCISSORS, gameState.getLastChoiceIndex(3));
+    }
+
+    @Test
+    void test_playRound_allOrOneChoicePresent_isDraw() {
+        MultiPlayerGameState gameState = new MultiPlayerGameState(3, 3);
+
+        assertEquals(0, gameState.playRound(ROCK, PAPER, SCISSORS));
+        assertEquals(0, gameState.playRound(PAPER, PAPER, PAPER));
+
+        assertEquals(2, gameState.getRoundCount());
+        for (int player = 0; player < 3; player++) {
+            assertEquals(0, gameState.getPlayerScore(player));
+        }
+    }
+
+    @Test
+    void test_winners_detectedIncrementally() {
+        MultiPlayerGameState gameState = new MultiPlayerGameState(3, 2);
+
+        gameState.playRound(PAPER, PAPER, ROCK);
+        assertFalse(gameState.hasWinner());
+        gameState.playRound(PAPER, PAPER, ROCK);
+
+        assertTrue(gameState.hasWinner());
+        assertArrayEquals(new int[]{0, 1}, gameState.getWinners());
+
+        // Later rounds do not change the winners
+        gameState.playRound(ROCK, ROCK, PAPER);
+        gameState.playRound(ROCK, ROCK, PAPER);
+        assertArrayEquals(new int[]{0, 1}, gameState.getWinners());
+    }
+
+    @Test
+    void test_largePartyOnVariantRules_matchesPairwiseResolution() {
+        RuleSet rules = RuleSet.cyclic(15);
+        MultiPlayerGameState gameState = new MultiPlayerGameState(rules, 64, 1_000);
+        Random random = new Random(5);
+        int[] choices = new int[64];
+
+        for (int round = 0; round < 200; round++) {
+            for (int player = 0; player < choices.length; player++) {
+                choices[player] = random.nextInt(4);
+            }
+            gameState.playRound(choices);
+
+            for (int player = 0; player < choices.length; player++) {
+                boolean beatsSomeone = false;
+                boolean beaten = false;
+                for (int other : choices) {
+                    beatsSomeone |= rules.beats(choices[player], other);
+                    beaten |= rules.beats(other, choices[player]);
+                }
+                assertEquals(beatsSomeone && !beaten, gameState.wonLastRound(player));
+            }
+        }
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiPlayerGameState(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> new MultiPlayerGameState(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MultiPlayerGameState(RuleSet.cyclic(65), 2, 3));
+
+        MultiPlayerGameState gameState = new MultiPlayerGameState(3, 3);
+        assertThrows(IllegalArgumentException.class, () -> gameState.playRound(ROCK, PAPER));
+        assertThrows(IndexOutOfBoundsException.class, () -> gameState.playRound(ROCK, PAPER, 3));
+        assertEquals(0, gameState.getRoundCount());
+    }
+}
@@ -0,0 +1,67 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundHistoryTest {
+
+    private RoundHistory history;
+
+    @BeforeEach
+    void setup() {
+        history = new RoundHistory();
+    }
+
+    @Test
+    void test_initialState() {
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.size());
+        assertTrue(history.last().isEmpty());
+    }
+
+    @Test
+    void test_add_materializesRounds() {
+        history.add(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        history.add(PlayerChoice.PAPER, PlayerChoice.SCISSORS);
+
+        assertEquals(2, history.size());
+
+        Round first = history.get(1);
+        assertEquals(1, first.getIndex());
+        assertEquals(PlayerChoice.ROCK, first.getPlayerChoice(PlayerIndex.PLAYER_ONE));
+        assertEquals(PlayerChoice.SCISSORS, first.getPlayerChoice(PlayerIndex.PLAYER_TWO));
+        assertEquals(RoundResult.PLAYER_ONE_WINS, first.getResult());
+
+        Round last = history.last().orElseThrow();
+        assertEquals(2, last.getIndex());
+        assertEquals(RoundResult.PLAYER_TWO_WINS, last.getResult());
+    }
+
+    @Test
+    void test_add_growsBeyondInitialCapacity() {
+        PlayerChoice[] choices = PlayerChoice.values();
+        for (int i = 0; i < 1_000; i++) {
+            history.add(choices[i % choices.length], choices[(i / 2) % choices.length]);
+        }
+
+        assertEquals(1_000, history.size());
+        for (int index = 1; index <= 1_000; index++) {
+            int i = index - 1;
+            assertEquals(choices[i % choices.length], history.getPlayerChoice(index, PlayerIndex.PLAYER_ONE));
+            assertEquals(choices[(i / 2) % choices.length], history.getPlayerChoice(index, PlayerIndex.PLAYER_TWO));
+            assertEquals(history.get(index).getResult(), history.getResult(index));
+        }
+    }
+
+    @Test
+    void test_get_invalidIndex() {
+        history.add(PlayerChoice.ROCK, PlayerChoice.ROCK);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(2));
+    }
+}
@@ -3,6 +3,8 @@ package com.lefpap.gamestate;
 import com.lefpap.player.PlayerChoice;
 import com.lefpap.player.PlayerIndex;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,4 +31,16 @@ class RoundTest {
         assertEquals(PlayerChoice.ROCK, round.getPlayerChoice(PlayerIndex.PLAYER_ONE));
         assertEquals(PlayerChoice.PAPER, round.getPlayerChoice(PlayerIndex.PLAYER_TWO));
     }
+
+    @ParameterizedTest
+    @EnumSource(PlayerChoice.class)
+    void test_roundResultOf_matchesBeats(PlayerChoice playerOneChoice) {
+        for (PlayerChoice playerTwoChoice : PlayerChoice.values()) {
+            RoundResult expected = playerOneChoice == playerTwoChoice
+                ? RoundResult.DRAW
+                : playerOneChoice.beats(playerTwoChoice) ? RoundResult.PLAYER_ONE_WINS : RoundResult.PLAYER_TWO_WINS;
+
+            assertEquals(expected, RoundResult.of(playerOneChoice, playerTwoChoice));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSetTest {
+
+    @Test
+    void test_classic_matchesPlayerChoice() {
+        RuleSet classic = RuleSet.classic();
+
+        assertTrue(classic.isClassic());
+        assertEquals(PlayerChoice.values().length, classic.size());
+        for (PlayerChoice one : PlayerChoice.values()) {
+            assertEquals(one.name(), classic.getName(one.ordinal()));
+            for (PlayerChoice two : PlayerChoice.values()) {
+                assertEquals(one.beats(two), classic.beats(one.ordinal(), two.ordinal()));
+                assertEquals(RoundResult.of(one, two), classic.resolve(one.ordinal(), two.ordinal()));
+            }
+        }
+    }
+
+    @Test
+    void test_rockPaperScissorsLizardSpock() {
+        RuleSet rules = RuleSet.rockPaperScissorsLizardSpock();
+        int rock = rules.indexOf("rock").orElseThrow();
+        int spock = rules.indexOf("Spock").orElseThrow();
+        int paper = rules.indexOf("PAPER").orElseThrow();
+        int lizard = rules.indexOf("lizard").orElseThrow();
+        int scissors = rules.indexOf("scissors").orElseThrow();
+
+        assertTrue(rules.beats(rock, lizard));
+        assertTrue(rules.beats(rock, scissors));
+        assertTrue(rules.beats(lizard, spock));
+        assertTrue(rules.beats(lizard, paper));
+        assertTrue(rules.beats(spock, scissors));
+        assertTrue(rules.beats(paper, spock));
+        assertTrue(rules.beats(scissors, lizard));
+        assertEquals(RoundResult.DRAW, rules.resolve(spock, spock));
+        assertEquals(RoundResult.PLAYER_TWO_WINS, rules.resolve(rock, spock));
+        assertEquals(OptionalInt.empty(), rules.indexOf("well"));
+    }
+
+    @Test
+    void test_cyclic_isBalanced() {
+        for (int size : new int[]{7, 15, 101, RuleSet.MAX_CHOICES - 1}) {
+            RuleSet rules = RuleSet.cyclic(size);
+            for (int choice = 0; choice < size; choice++) {
+                int wins = 0;
+                for (int other = 0; other < size; other++) {
+                    if (rules.beats(choice, other)) {
+                        wins++;
+                        assertFalse(rules.beats(other, choice));
+                    }
+                }
+                assertEquals(size / 2, wins);
+                assertFalse(rules.beats(choice, choice));
+            }
+        }
+    }
+
+    @Test
+    void test_gameState_resolvesThroughRuleSet() {
+        RuleSet rules = RuleSet.cyclic(101);
+        GameState gameState = new GameState(rules, 2, true, MatchEventSink.NONE);
+
+        assertEquals(RoundResult.PLAYER_ONE_WINS, gameState.playRound(100, 99));
+        assertEquals(RoundResult.PLAYER_TWO_WINS, gameState.playRound(0, 50));
+        assertEquals(RoundResult.PLAYER_ONE_WINS, gameState.playRound(0, 51));
+
+        assertEquals(PlayerIndex.PLAYER_ONE, gameState.getWinner().orElseThrow());
+        assertEquals(51, gameState.getLastChoiceIndex(PlayerIndex.PLAYER_TWO));
+        assertEquals(100, gameState.getRound(1).getChoiceIndex(PlayerIndex.PLAYER_ONE));
+        assertEquals(RoundResult.PLAYER_TWO_WINS, gameState.getRound(2).getResult());
+        assertThrows(IllegalStateException.class, () -> gameState.getLastChoice(PlayerIndex.PLAYER_ONE));
+        assertThrows(IllegalStateException.class, () -> gameState.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER));
+        assertThrows(IndexOutOfBoundsException.class, () -> gameState.playRound(0, 101));
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.cyclic(4));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.cyclic(1));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.cyclic(RuleSet.MAX_CHOICES + 1));
+        assertThrows(IllegalArgumentException.class, () -> RuleSet.cyclic(List.of("a", "b", "A")));
+    }
+}
@@ -0,0 +1,177 @@
+package com.lefpap.gamestate;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import com.lefpap.random.ChoiceSampler;
+import com.lefpap.random.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringRuleTest {
+
+    private static final int ROCK = PlayerChoice.ROCK.ordinal();
+    private static final int PAPER = PlayerChoice.PAPER.ordinal();
+    private static final int SCISSORS = PlayerChoice.SCISSORS.ordinal();
+
+    // Rock wins are worth 2, draws half a point, and losing costs a quarter point
+    private static final ScoringRule PROMOTION =
+        ScoringRule.weighted(RuleSet.classic(), new double[]{2, 1, 1}, 0.5, -0.25);
+
+    @Test
+    void test_standard_awardsOnePointPerWin() {
+        ScoringRule standard = ScoringRule.standard(RuleSet.classic());
+
+        assertSame(standard, ScoringRule.standard(RuleSet.classic()));
+        assertTrue(standard.isStandard());
+        assertTrue(ScoringRule.weighted(RuleSet.classic(), 1, 0, 0).isStandard());
+        assertFalse(PROMOTION.isStandard());
+        assertEquals(ScoringRule.POINT, standard.points(PAPER, ROCK));
+        assertEquals(0, standard.points(ROCK, PAPER));
+        assertEquals(0, standard.points(ROCK, ROCK));
+    }
+
+    @Test
+    void test_weighted_tableHoldsFixedPointPayoffs() {
+        assertEquals(2_000, PROMOTION.points(ROCK, SCISSORS));
+        assertEquals(-250, PROMOTION.points(SCISSORS, ROCK));
+        assertEquals(1_000, PROMOTION.points(PAPER, ROCK));
+        assertEquals(500, PROMOTION.points(PAPER, PAPER));
+        assertEquals(4, PROMOTION.maxSwing());
+        assertEquals(1, ScoringRule.standard(RuleSet.classic()).maxSwing());
+        assertEquals(2, ScoringRule.weighted(RuleSet.classic(), 2, 1, 0).maxSwing());
+    }
+
+    @Test
+    void test_gameState_keepsExactPointsAndDecidesOnWholePoints() {
+        GameState gameState = new GameState(PROMOTION, MatchEndPolicy.firstTo(3), true, MatchEventSink.NONE);
+
+        gameState.playRound(ROCK, SCISSORS);
+        gameState.playRound(PAPER, PAPER);
+        assertEquals(2_500, gameState.getPlayerPoints(PlayerIndex.PLAYER_ONE));
+        assertEquals(250, gameState.getPlayerPoints(PlayerIndex.PLAYER_TWO));
+        assertEquals(2, gameState.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertEquals(0, gameState.getPlayerScore(PlayerIndex.PLAYER_TWO));
+        assertFalse(gameState.isOver());
+
+        gameState.playRound(PAPER, PAPER);
+        assertEquals(3, gameState.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertEquals(PlayerIndex.PLAYER_ONE, gameState.getWinner().orElseThrow());
+    }
+
+    @Test
+    void test_gameState_penaltiesCanMakeScoresNegative() {
+        GameState gameState = new GameState(PROMOTION, MatchEndPolicy.firstTo(3), false, MatchEventSink.NONE);
+
+        gameState.playRound(SCISSORS, ROCK);
+
+        assertEquals(-250, gameState.getPlayerPoints(PlayerIndex.PLAYER_ONE));
+        assertEquals(-1, gameState.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertEquals(2, gameState.getPlayerScore(PlayerIndex.PLAYER_TWO));
+    }
+
+    @Test
+    void test_playRounds_matchesRoundByRoundPlayWithWeightedScoring() {
+        RandomGenerator rnd = RandomStreams.create(11);
+        byte[] playerOneChoices = new byte[1_000];
+        byte[] playerTwoChoices = new byte[1_000];
+        ChoiceSampler.fill(rnd, 3, playerOneChoices);
+        ChoiceSampler.fill(rnd, 3, playerTwoChoices);
+
+        GameState batched = new GameState(PROMOTION, MatchEndPolicy.winByTwo(20), false, MatchEventSink.NONE);
+        GameState single = new GameState(PROMOTION, MatchEndPolicy.winByTwo(20), false, MatchEventSink.NONE);
+        int played = batched.playRounds(playerOneChoices, playerTwoChoices, 0, playerOneChoices.length);
+        for (int round = 0; round < played; round++) {
+            single.playRound(playerOneChoices[round], playerTwoChoices[round]);
+            assertEquals(round + 1 < played, !single.isOver());
+        }
+
+        assertTrue(batched.isOver());
+        assertEquals(single.getStatus(), batched.getStatus());
+        assertEquals(single.getPlayerPoints(PlayerIndex.PLAYER_ONE), batched.getPlayerPoints(PlayerIndex.PLAYER_ONE));
+        assertEquals(single.getPlayerPoints(PlayerIndex.PLAYER_TWO), batched.getPlayerPoints(PlayerIndex.PLAYER_TWO));
+    }
+
+    @Test
+    void test_playRounds_matchesRoundByRoundPlayWhenFlooringMovesTheLeadFurther() {
+        // A round moves the exact lead by less than one point, but the floored lead by up to two
+        ScoringRule penalized = ScoringRule.weighted(RuleSet.classic(), 0.25, 0, -0.5);
+        MatchEndPolicy policy = MatchEndPolicy.bestOf(7);
+        RandomGenerator rnd = RandomStreams.create(5);
+        byte[] playerOneChoices = new byte[16];
+        byte[] playerTwoChoices = new byte[16];
+
+        for (int match = 0; match < 1_000; match++) {
+            ChoiceSampler.fill(rnd, 3, playerOneChoices);
+            ChoiceSampler.fill(rnd, 3, playerTwoChoices);
+
+            GameState batched = new GameState(penalized, policy, false, MatchEventSink.NONE);
+            GameState single = new GameState(penalized, policy, false, MatchEventSink.NONE);
+            int played = batched.playRounds(playerOneChoices, playerTwoChoices, 0, playerOneChoices.length);
+            for (int round = 0; round < playerOneChoices.length && !single.isOver(); round++) {
+                single.playRound(playerOneChoices[round], playerTwoChoices[round]);
+            }
+
+            assertEquals(single.getRoundCount(), played);
+            assertEquals(single.getStatus(), batched.getStatus());
+        }
+    }
+
+    @Test
+    void test_bestOf_letsTrailingPlayerCatchUpWithHighValueWins() {
+        ScoringRule triple = ScoringRule.weighted(RuleSet.classic(), 3, 0, 0);
+        GameState gameState = new GameState(triple, MatchEndPolicy.bestOf(5), false, MatchEventSink.NONE);
+
+        gameState.playRound(ROCK, SCISSORS);
+        gameState.playRound(ROCK, SCISSORS);
+        assertEquals(6, gameState.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        assertFalse(gameState.isOver());
+
+        gameState.playRound(SCISSORS, ROCK);
+        gameState.playRound(SCISSORS, ROCK);
+        assertFalse(gameState.isOver());
+        gameState.playRound(SCISSORS, ROCK);
+
+        assertEquals(9, gameState.getPlayerScore(PlayerIndex.PLAYER_TWO));
+        assertEquals(MatchStatus.PLAYER_TWO_WINS, gameState.getStatus());
+    }
+
+    @Test
+    void test_bestOf_stillEndsEarlyOnceTheLeadExceedsTheHighestSwing() {
+        ScoringRule triple = ScoringRule.weighted(RuleSet.classic(), 3, 0, 0);
+        GameState gameState = new GameState(triple, MatchEndPolicy.bestOf(5), false, MatchEventSink.NONE);
+
+        for (int round = 0; round < 3; round++) {
+            gameState.playRound(ROCK, SCISSORS);
+        }
+
+        assertEquals(MatchStatus.PLAYER_ONE_WINS, gameState.getStatus());
+        assertEquals(3, gameState.getRoundCount());
+    }
+
+    @Test
+    void test_snapshot_keepsFractionalPoints() {
+        GameState gameState = new GameState(PROMOTION, MatchEndPolicy.firstTo(5), true, MatchEventSink.NONE);
+        gameState.playRound(ROCK, ROCK);
+        gameState.playRound(SCISSORS, ROCK);
+
+        GameState restored = GameState.restore(
+            ByteBuffer.wrap(gameState.snapshot()), PROMOTION, MatchEndPolicy.firstTo(5), MatchEventSink.NONE);
+
+        assertEquals(250, restored.getPlayerPoints(PlayerIndex.PLAYER_ONE));
+        assertEquals(2_500, restored.getPlayerPoints(PlayerIndex.PLAYER_TWO));
+        assertSame(PROMOTION, restored.getScoringRule());
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ScoringRule.weighted(RuleSet.classic(), new double[]{1, 1}, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> ScoringRule.weighted(RuleSet.classic(), Double.NaN, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> ScoringRule.of(RuleSet.classic(), new double[3][2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> PROMOTION.points(3, 0));
+    }
+}
@@ -0,0 +1,209 @@
+package com.lefpap.journal;
+
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.gamestate.MatchStatus;
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.gamestate.ScoringRule;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchJournalTest {
+
+    private static final PlayerChoice[] CHOICES = PlayerChoice.values();
+    private static final MatchEndPolicy UNENDING = new MatchEndPolicy() {
+        @Override
+        public MatchStatus evaluate(int playerOneScore, int playerTwoScore, int roundCount) {
+            return MatchStatus.IN_PROGRESS;
+        }
+
+        @Override
+        public int getScoreToWin() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int minRoundsRemaining(int playerOneScore, int playerTwoScore, int roundCount) {
+            return Integer.MAX_VALUE;
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void test_replay_restoresRecordedMatches() throws IOException {
+        GameState[] originals = new GameState[20];
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory, 32)) {
+            Random rnd = new Random(3);
+            for (int match = 0; match < originals.length; match++) {
+                GameState gameState = new GameState(3, true, new JournalEventSink(writer, match));
+                while (!gameState.hasWinner()) {
+                    gameState.playRound(CHOICES[rnd.nextInt(3)], CHOICES[rnd.nextInt(3)]);
+                }
+                originals[match] = gameState;
+            }
+        }
+
+        try (MatchJournalReader reader = new MatchJournalReader(directory)) {
+            for (int match = 0; match < originals.length; match++) {
+                GameState original = originals[match];
+                GameState replayed = reader.replay(match).orElseThrow();
+
+                assertEquals(original.getRoundCount(), replayed.getRoundCount());
+                assertEquals(original.getWinner(), replayed.getWinner());
+                assertEquals(original.getPlayerScore(PlayerIndex.PLAYER_ONE), replayed.getPlayerScore(PlayerIndex.PLAYER_ONE));
+                for (int round = 1; round <= original.getRoundCount(); round++) {
+                    assertEquals(
+                        original.getRound(round).getPlayerChoice(PlayerIndex.PLAYER_TWO),
+                        replayed.getRound(round).getPlayerChoice(PlayerIndex.PLAYER_TWO)
+                    );
+                }
+            }
+            assertTrue(reader.replay(999).isEmpty());
+        }
+    }
+
+    @Test
+    void test_replay_resolvesRoundsWithRecordedRuleSet() throws IOException {
+        RuleSet rules = RuleSet.rockPaperScissorsLizardSpock();
+        GameState original;
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory)) {
+            writer.appendMatchStart(1, 2);
+            writer.appendRound(1, 1, PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+
+            original = new GameState(rules, 5, true, new JournalEventSink(writer, 2));
+            Random rnd = new Random(5);
+            while (!original.hasWinner()) {
+                original.playRound(rnd.nextInt(rules.size()), rnd.nextInt(rules.size()));
+            }
+        }
+
+        try (MatchJournalReader reader = new MatchJournalReader(directory)) {
+            GameState replayed = reader.replay(2).orElseThrow();
+            assertEquals(rules.size(), replayed.getRuleSet().size());
+            assertEquals(original.getRoundCount(), replayed.getRoundCount());
+            assertEquals(original.getWinner(), replayed.getWinner());
+            for (int round = 1; round <= original.getRoundCount(); round++) {
+                assertEquals(
+                    original.getRound(round).getResult(),
+                    replayed.getRound(round).getResult()
+                );
+                assertEquals(
+                    original.getRound(round).getChoiceIndex(PlayerIndex.PLAYER_ONE),
+                    replayed.getRound(round).getChoiceIndex(PlayerIndex.PLAYER_ONE)
+                );
+            }
+
+            AtomicLong classicRounds = new AtomicLong();
+            reader.scan(RuleSet.classic(), (matchId, roundIndex, playerOneChoice, playerTwoChoice) -> {
+                assertEquals(1, matchId);
+                classicRounds.incrementAndGet();
+            });
+            assertEquals(1, classicRounds.get());
+        }
+    }
+
+    @Test
+    void test_replay_restoresRecordedEndPolicy() throws IOException {
+        GameState bestOf;
+        GameState capped;
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory)) {
+            bestOf = new GameState(RuleSet.classic(), MatchEndPolicy.bestOf(5), true, new JournalEventSink(writer, 1));
+            capped = new GameState(
+                RuleSet.classic(), MatchEndPolicy.winByTwo(2).withRoundCap(4), true, new JournalEventSink(writer, 2)
+            );
+            for (int round = 0; round < 3; round++) {
+                bestOf.playRound(PlayerChoice.PAPER, PlayerChoice.ROCK);
+                capped.playRound(PlayerChoice.PAPER, PlayerChoice.ROCK);
+                capped.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER);
+            }
+        }
+
+        try (MatchJournalReader reader = new MatchJournalReader(directory)) {
+            GameState replayedBestOf = reader.replay(1).orElseThrow();
+            assertEquals(MatchStatus.PLAYER_ONE_WINS, replayedBestOf.getStatus());
+            assertEquals(bestOf.getEndPolicy().getSpec(), replayedBestOf.getEndPolicy().getSpec());
+
+            GameState replayedCapped = reader.replay(2).orElseThrow();
+            assertEquals(MatchStatus.UNDECIDED, capped.getStatus());
+            assertEquals(MatchStatus.UNDECIDED, replayedCapped.getStatus());
+            assertEquals(capped.getEndPolicy().getSpec(), replayedCapped.getEndPolicy().getSpec());
+        }
+    }
+
+    @Test
+    void test_sink_rejectsMatchesTheJournalCannotRecord() throws IOException {
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory)) {
+            ScoringRule weighted = ScoringRule.weighted(RuleSet.classic(), 2, 0, 0);
+            GameState weightedMatch =
+                new GameState(weighted, MatchEndPolicy.firstTo(3), true, new JournalEventSink(writer, 1));
+            GameState customMatch = new GameState(RuleSet.classic(), UNENDING, true, new JournalEventSink(writer, 2));
+
+            assertThrows(IllegalArgumentException.class, () -> weightedMatch.playRound(0, 1));
+            assertThrows(IllegalArgumentException.class, () -> customMatch.playRound(0, 1));
+        }
+
+        try (MatchJournalReader reader = new MatchJournalReader(directory)) {
+            assertTrue(reader.replay(1).isEmpty());
+            assertTrue(reader.replay(2).isEmpty());
+        }
+    }
+
+    @Test
+    void test_scan_visitsRoundsAcrossSegments() throws IOException {
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory, 10)) {
+            for (int match = 0; match < 5; match++) {
+                writer.appendMatchStart(match, 100);
+                for (int round = 1; round <= 7; round++) {
+                    writer.appendRound(match, round, PlayerChoice.ROCK, PlayerChoice.PAPER);
+                }
+            }
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(4, files.count());
+        }
+
+        AtomicLong rounds = new AtomicLong();
+        AtomicLong matchIds = new AtomicLong();
+        try (MatchJournalReader reader = new MatchJournalReader(directory)) {
+            assertEquals(40, reader.getRecordCount());
+            reader.scan((matchId, roundIndex, playerOneChoice, playerTwoChoice) -> {
+                assertEquals(PlayerChoice.ROCK.ordinal(), playerOneChoice);
+                assertEquals(PlayerChoice.PAPER.ordinal(), playerTwoChoice);
+                rounds.incrementAndGet();
+                matchIds.addAndGet(matchId);
+            });
+        }
+
+        assertEquals(35, rounds.get());
+        assertEquals(7 * (0 + 1 + 2 + 3 + 4), matchIds.get());
+    }
+
+    @Test
+    void test_reopenedWriter_appendsNewSegment() throws IOException {
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory)) {
+            writer.appendMatchStart(1, 3);
+        }
+        try (MatchJournalWriter writer = new MatchJournalWriter(directory)) {
+            writer.appendRound(1, 1, PlayerChoice.PAPER, PlayerChoice.ROCK);
+        }
+
+        try (MatchJournalReader reader = new MatchJournalReader(directory)) {
+            GameState replayed = reader.replay(1).orElseThrow();
+            assertEquals(1, replayed.getPlayerScore(PlayerIndex.PLAYER_ONE));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.lefpap.leaderboard;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.random.ChoiceSampler;
+import com.lefpap.random.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    void test_recordRound_countsPlayersAndChoices() {
+        Leaderboard leaderboard = new Leaderboard();
+
+        leaderboard.recordRound("Alice", "Bob", PlayerChoice.PAPER, PlayerChoice.ROCK);
+        leaderboard.recordRound("Alice", "Bob", PlayerChoice.ROCK, PlayerChoice.ROCK);
+        leaderboard.recordRound("Bob", "Carol", PlayerChoice.SCISSORS, PlayerChoice.PAPER);
+
+        assertEquals(new LeaderboardEntry("Alice", 1, 0, 1), leaderboard.getEntry("Alice").orElseThrow());
+        assertEquals(new LeaderboardEntry("Bob", 1, 1, 1), leaderboard.getEntry("Bob").orElseThrow());
+        assertTrue(leaderboard.getEntry("Dave").isEmpty());
+        assertEquals(3, leaderboard.size());
+
+        List<LeaderboardEntry> choices = leaderboard.choiceEntries();
+        assertEquals(new LeaderboardEntry("ROCK", 0, 1, 2), choices.get(PlayerChoice.ROCK.ordinal()));
+        assertEquals(new LeaderboardEntry("PAPER", 1, 1, 0), choices.get(PlayerChoice.PAPER.ordinal()));
+    }
+
+    @Test
+    void test_topK_ranksByWinsThenLossesThenName() {
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.recordRound("Alice", "Bob", PlayerChoice.PAPER, PlayerChoice.ROCK);
+        leaderboard.recordRound("Alice", "Carol", PlayerChoice.PAPER, PlayerChoice.ROCK);
+        leaderboard.recordRound("Carol", "Bob", PlayerChoice.PAPER, PlayerChoice.ROCK);
+        leaderboard.recordRound("Dave", "Erin", PlayerChoice.PAPER, PlayerChoice.ROCK);
+
+        List<String> top = leaderboard.topK(3).stream().map(LeaderboardEntry::name).toList();
+
+        assertEquals(List.of("Alice", "Dave", "Carol"), top);
+        assertEquals(5, leaderboard.topK(100).size());
+        assertTrue(leaderboard.topK(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.topK(-1));
+    }
+
+    @Test
+    void test_sinkFor_recordsEveryRoundOfAMatch() {
+        Leaderboard leaderboard = new Leaderboard();
+        GameState gameState = new GameState(3, false, leaderboard.sinkFor("Alice", "Bob"));
+
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.SCISSORS);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.PAPER);
+        gameState.playRound(PlayerChoice.ROCK, PlayerChoice.ROCK);
+
+        assertEquals(new LeaderboardEntry("Alice", 1, 1, 1), leaderboard.getEntry("Alice").orElseThrow());
+        assertEquals(new LeaderboardEntry("ROCK", 1, 1, 2), leaderboard.choiceEntries().get(PlayerChoice.ROCK.ordinal()));
+    }
+
+    @Test
+    void test_sinkFor_skipsChoicesOfOtherRuleSets() {
+        Leaderboard leaderboard = new Leaderboard();
+        GameState gameState = new GameState(
+            RuleSet.rockPaperScissorsLizardSpock(), 3, false, leaderboard.sinkFor("Alice", "Bob"));
+
+        gameState.playRound(4, 3);
+
+        assertEquals(1, leaderboard.getEntry("Alice").orElseThrow().rounds());
+        assertTrue(leaderboard.choiceEntries().stream().allMatch(entry -> entry.rounds() == 0));
+    }
+
+    @Test
+    void test_concurrentMatches_loseNoRounds() throws Exception {
+        Leaderboard leaderboard = new Leaderboard();
+        int threads = 4;
+        int roundsPerThread = 20_000;
+
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    byte[] playerOneChoices = new byte[roundsPerThread];
+                    byte[] playerTwoChoices = new byte[roundsPerThread];
+                    ChoiceSampler.fill(RandomStreams.create(seed), 3, playerOneChoices);
+                    ChoiceSampler.fill(RandomStreams.create(seed + 100), 3, playerTwoChoices);
+
+                    MatchEventSink sink = leaderboard.sinkFor("Shared", "Player " + seed);
+                    GameState gameState = new GameState(Integer.MAX_VALUE, false, sink);
+                    for (int round = 0; round < roundsPerThread; round++) {
+                        gameState.playRound(playerOneChoices[round], playerTwoChoices[round]);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals((long) threads * roundsPerThread, leaderboard.getEntry("Shared").orElseThrow().rounds());
+        long choiceRounds = leaderboard.choiceEntries().stream().mapToLong(LeaderboardEntry::rounds).sum();
+        assertEquals(2L * threads * roundsPerThread, choiceRounds);
+    }
+}
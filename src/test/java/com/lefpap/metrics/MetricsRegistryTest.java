@@ -0,0 +1,73 @@
+package com.lefpap.metrics;
+
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.simulation.MatchSimulator;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void test_histogram_percentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 1);
+        assertEquals(5_000_000, histogram.getPercentile(50), 5_000_000 / 16.0);
+        assertEquals(9_900_000, histogram.getPercentile(99), 9_900_000 / 16.0);
+        assertEquals(10_000_000, histogram.getPercentile(100));
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+    }
+
+    @Test
+    void test_eventSinkAndTimedStrategy_recordIntoRegistry() {
+        try (MetricsRegistry registry = new MetricsRegistry()) {
+            MatchSimulator simulator = new MatchSimulator(
+                new TimedChoiceStrategy(new ForceChoiceStrategy(PlayerChoice.PAPER), registry, "paper"),
+                new ForceChoiceStrategy(PlayerChoice.ROCK),
+                MatchEndPolicy.firstTo(3),
+                new MetricsEventSink(registry)
+            );
+            registry.gauge("sessions.active", () -> 7);
+
+            simulator.simulate(10);
+
+            Map<String, Number> snapshot = registry.snapshot();
+            assertEquals(10L, snapshot.get("matches.started"));
+            assertEquals(10L, snapshot.get("matches.finished"));
+            assertEquals(30L, snapshot.get("rounds"));
+            assertEquals(30L, snapshot.get("rounds.PLAYER_ONE_WINS"));
+            assertEquals(0L, snapshot.get("rounds.DRAW"));
+            assertEquals(30L, snapshot.get("strategy.paper.makeChoice.count"));
+            assertEquals(7L, snapshot.get("sessions.active"));
+
+            String dump = registry.dump();
+            assertTrue(dump.contains("rounds 30 ("), dump);
+            assertTrue(dump.contains("sessions.active 7" + System.lineSeparator()), dump);
+        }
+    }
+
+    @Test
+    void test_registerMBean_exposesMetrics() throws Exception {
+        String name = "com.lefpap.test:type=Metrics";
+        try (MetricsRegistry registry = new MetricsRegistry()) {
+            registry.counter("rounds").add(42);
+            registry.registerMBean(name);
+
+            assertEquals(42L, ManagementFactory.getPlatformMBeanServer().getAttribute(new ObjectName(name), "rounds"));
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(name)));
+    }
+}
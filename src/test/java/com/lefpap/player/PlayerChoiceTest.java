@@ -1,10 +1,17 @@
 package com.lefpap.player;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
@@ -31,6 +38,37 @@ class PlayerChoiceTest {
         assertTrue(PlayerChoice.of(invalidInput).isEmpty());
     }
 
+    @Test
+    void test_of_isCaseInsensitiveAndReusesOptionals() {
+        assertSame(PlayerChoice.of("rock"), PlayerChoice.of("RoCk"));
+        assertSame(PlayerChoice.of("X"), PlayerChoice.of("scissors"));
+        assertTrue(PlayerChoice.of(null).isEmpty());
+    }
+
+    @Test
+    void test_parse_charSequenceRegion() {
+        StringBuilder line = new StringBuilder("  Paper\r\n");
+
+        assertEquals(PlayerChoice.PAPER, PlayerChoice.parse(line, 2, 7));
+        assertEquals(PlayerChoice.PAPER, PlayerChoice.parse(line, 2, 3));
+        assertNull(PlayerChoice.parse(line, 2, 6));
+        assertNull(PlayerChoice.parse(line, 0, 7));
+        assertNull(PlayerChoice.parse(line, 2, 2));
+        assertNull(PlayerChoice.parse("\u00e9", 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PlayerChoice.parse(line, 2, 20));
+    }
+
+    @Test
+    void test_parse_byteBufferRegion() {
+        ByteBuffer buffer = ByteBuffer.wrap("rock,SCISSORS,r,spock".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(PlayerChoice.ROCK, PlayerChoice.parse(buffer, 0, 4));
+        assertEquals(PlayerChoice.SCISSORS, PlayerChoice.parse(buffer, 5, 13));
+        assertEquals(PlayerChoice.ROCK, PlayerChoice.parse(buffer, 14, 15));
+        assertNull(PlayerChoice.parse(buffer, 16, 21));
+        assertEquals(0, buffer.position());
+    }
+
     @ParameterizedTest
     @CsvSource({
         "ROCK, SCISSORS, true",
@@ -56,4 +94,18 @@ class PlayerChoiceTest {
             )
         );
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource({
+        "ROCK, PAPER",
+        "PAPER, SCISSORS",
+        "SCISSORS, ROCK"
+    })
+    void test_counter(String choiceInput, String expectedCounterInput) {
+        PlayerChoice choice = PlayerChoice.valueOf(choiceInput);
+        PlayerChoice counter = choice.counter();
+
+        assertEquals(PlayerChoice.valueOf(expectedCounterInput), counter);
+        assertTrue(counter.beats(choice));
+    }
+}
@@ -0,0 +1,107 @@
+package com.lefpap.player.strategy;
+
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.MatchView;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineChoiceStrategyTest {
+
+    private static final ForceChoiceStrategy FALLBACK = new ForceChoiceStrategy(PlayerChoice.SCISSORS);
+
+    @Test
+    void test_fastStrategy_answersItself() {
+        DeadlineChoiceStrategy strategy = new DeadlineChoiceStrategy(
+            new ForceChoiceStrategy(PlayerChoice.ROCK), Duration.ofSeconds(5), FALLBACK
+        );
+
+        assertEquals(PlayerChoice.ROCK, strategy.makeChoice());
+        assertEquals(0, strategy.getTimeouts());
+    }
+
+    @Test
+    void test_slowStrategy_fallsBackAndIsInterrupted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PlayerChoiceStrategy slow = () -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return PlayerChoice.ROCK;
+        };
+        DeadlineChoiceStrategy strategy = new DeadlineChoiceStrategy(slow, Duration.ofMillis(50), FALLBACK);
+
+        assertEquals(PlayerChoice.SCISSORS, strategy.makeChoice());
+        assertEquals(1, strategy.getTimeouts());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void test_abandonedCall_isNeverOverlapped() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger entered = new AtomicInteger();
+        AtomicInteger resolved = new AtomicInteger();
+        PlayerChoiceStrategy uninterruptible = new PlayerChoiceStrategy() {
+            @Override
+            public PlayerChoice makeChoice() {
+                if (entered.incrementAndGet() == 1) {
+                    while (true) {
+                        try {
+                            release.await();
+                            break;
+                        } catch (InterruptedException e) {
+                            // Keep running after the deadline
+                        }
+                    }
+                }
+                return PlayerChoice.ROCK;
+            }
+
+            @Override
+            public void onRoundResolved(MatchView match, PlayerIndex self) {
+                resolved.incrementAndGet();
+            }
+        };
+        DeadlineChoiceStrategy strategy = new DeadlineChoiceStrategy(uninterruptible, Duration.ofMillis(50), FALLBACK);
+        GameState match = new GameState(3);
+
+        assertEquals(PlayerChoice.SCISSORS, strategy.makeChoice());
+        strategy.onRoundResolved(match, PlayerIndex.PLAYER_ONE);
+        assertEquals(PlayerChoice.SCISSORS, strategy.makeChoice());
+        assertEquals(1, entered.get());
+        assertEquals(0, resolved.get());
+        assertEquals(2, strategy.getTimeouts());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (strategy.makeChoice() != PlayerChoice.ROCK) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        strategy.onRoundResolved(match, PlayerIndex.PLAYER_ONE);
+        assertEquals(1, resolved.get());
+    }
+
+    @Test
+    void test_failingStrategy_rethrows() {
+        DeadlineChoiceStrategy strategy = new DeadlineChoiceStrategy(
+            () -> {
+                throw new IllegalStateException("No choice");
+            },
+            Duration.ofSeconds(5),
+            FALLBACK
+        );
+
+        assertThrows(IllegalStateException.class, strategy::makeChoice);
+        assertThrows(IllegalArgumentException.class, () -> new DeadlineChoiceStrategy(FALLBACK, Duration.ZERO, FALLBACK));
+    }
+}
@@ -0,0 +1,56 @@
+package com.lefpap.player.strategy;
+
+import com.lefpap.gamestate.GameState;
+import com.lefpap.gamestate.RoundResult;
+import com.lefpap.player.Player;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.PlayerIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkovChoiceStrategyTest {
+
+    @Test
+    void test_orderZero_countersMostFrequentChoice() {
+        GameState gameState = new GameState(Integer.MAX_VALUE);
+        Player markov = new Player("Markov", new MarkovChoiceStrategy(0, new Random(1)));
+        Player rock = new Player("Rock", new ForceChoiceStrategy(PlayerChoice.ROCK));
+
+        for (int i = 0; i < 3; i++) {
+            gameState.playRound(markov, rock);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            gameState.playRound(markov, rock);
+            assertEquals(PlayerChoice.PAPER, gameState.getLastChoice(PlayerIndex.PLAYER_ONE));
+        }
+    }
+
+    @Test
+    void test_orderOne_learnsCyclingOpponent() {
+        GameState gameState = new GameState(Integer.MAX_VALUE);
+        PlayerChoice[] cycle = {PlayerChoice.ROCK, PlayerChoice.PAPER, PlayerChoice.SCISSORS};
+        int[] next = {0};
+        Player cycling = new Player("Cycling", () -> cycle[next[0]++ % cycle.length]);
+        Player markov = new Player("Markov", new MarkovChoiceStrategy(1, new Random(1)));
+
+        // Learn two full cycles
+        for (int i = 0; i < 6; i++) {
+            gameState.playRound(cycling, markov);
+        }
+
+        for (int i = 0; i < 24; i++) {
+            gameState.playRound(cycling, markov);
+            assertEquals(RoundResult.PLAYER_TWO_WINS, gameState.getLastResult());
+        }
+    }
+
+    @Test
+    void test_invalidOrder() {
+        assertThrows(IllegalArgumentException.class, () -> new MarkovChoiceStrategy(-1, new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new MarkovChoiceStrategy(MarkovChoiceStrategy.MAX_ORDER + 1, new Random()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.lefpap.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomStreamsTest {
+
+    private static final int MATCHES = 2_000;
+    private static final int ROUNDS = 64;
+
+    @Test
+    void test_forMatch_isReproducible() {
+        assertEquals(RandomStreams.forMatch(42, 7).nextLong(), RandomStreams.forMatch(42, 7).nextLong());
+        assertNotEquals(RandomStreams.forMatch(42, 7).nextLong(), RandomStreams.forMatch(42, 8).nextLong());
+        assertNotEquals(RandomStreams.forMatch(42, 7).nextLong(), RandomStreams.forMatch(43, 7).nextLong());
+        assertNotEquals(RandomStreams.deriveSeed(0, 0), RandomStreams.deriveSeed(0, 1));
+    }
+
+    @Test
+    void test_perMatchStreams_identicalAcrossThreadCounts() throws Exception {
+        byte[][] sequential = sampleMatches(new ForkJoinPool(1));
+        byte[][] parallel = sampleMatches(new ForkJoinPool(8));
+
+        assertTrue(Arrays.deepEquals(sequential, parallel));
+    }
+
+    @Test
+    void test_fill_isUniform() {
+        RandomGenerator rnd = RandomStreams.create(1);
+        for (int choices : new int[]{3, 5, 7, 16, 101, 256}) {
+            byte[] buffer = new byte[choices * 2_000];
+            ChoiceSampler.fill(rnd, choices, buffer);
+
+            int[] counts = new int[choices];
+            for (byte choice : buffer) {
+                counts[choice & 0xFF]++;
+            }
+            for (int count : counts) {
+                assertEquals(2_000, count, 300);
+            }
+        }
+    }
+
+    @Test
+    void test_fill_range() {
+        byte[] buffer = new byte[10];
+        Arrays.fill(buffer, (byte) -1);
+
+        ChoiceSampler.fill(RandomStreams.create(3), 1, buffer, 2, 5);
+
+        assertArrayEquals(new byte[]{-1, -1, 0, 0, 0, 0, 0, -1, -1, -1}, buffer);
+        assertThrows(IndexOutOfBoundsException.class, () -> ChoiceSampler.fill(RandomStreams.create(), 3, buffer, 8, 5));
+        assertThrows(IllegalArgumentException.class, () -> ChoiceSampler.fill(RandomStreams.create(), 0, buffer));
+        assertThrows(IllegalArgumentException.class, () -> ChoiceSampler.fill(RandomStreams.create(), 257, buffer));
+    }
+
+    private static byte[][] sampleMatches(ForkJoinPool pool) throws Exception {
+        try (pool) {
+            return pool.submit(() -> IntStream.range(0, MATCHES)
+                .parallel()
+                .mapToObj(match -> {
+                    byte[] choices = new byte[ROUNDS];
+                    ChoiceSampler.fill(RandomStreams.forMatch(2024, match), 3, choices);
+                    return choices;
+                })
+                .toArray(byte[][]::new)
+            ).get();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.lefpap.rating;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchmakerTest {
+
+    @Test
+    void test_enqueue_pairsWithClosestRating() {
+        Matchmaker<String> matchmaker = new Matchmaker<>(100);
+
+        assertTrue(matchmaker.enqueue("Low", 1200).isEmpty());
+        assertTrue(matchmaker.enqueue("High", 1600).isEmpty());
+        assertEquals(2, matchmaker.size());
+
+        assertEquals(Optional.of("High"), matchmaker.enqueue("Arriving", 1550));
+        assertEquals(1, matchmaker.size());
+    }
+
+    @Test
+    void test_enqueue_respectsMaxRatingGap() {
+        Matchmaker<String> matchmaker = new Matchmaker<>(50);
+
+        matchmaker.enqueue("Alice", 1500);
+
+        assertTrue(matchmaker.enqueue("Bob", 1600).isEmpty());
+        assertEquals(Optional.of("Alice"), matchmaker.enqueue("Carol", 1450));
+        assertEquals(Optional.of("Bob"), matchmaker.enqueue("Dave", 1650));
+        assertEquals(0, matchmaker.size());
+    }
+
+    @Test
+    void test_cancel() {
+        Matchmaker<String> matchmaker = new Matchmaker<>(Double.POSITIVE_INFINITY);
+
+        matchmaker.enqueue("Alice", 1500);
+
+        assertThrows(IllegalStateException.class, () -> matchmaker.enqueue("Alice", 1500));
+        assertTrue(matchmaker.cancel("Alice"));
+        assertFalse(matchmaker.cancel("Alice"));
+        assertTrue(matchmaker.enqueue("Bob", 1500).isEmpty());
+    }
+
+    @Test
+    void test_cancel_whileEnqueueLooksAgain_leavesNoGhost() {
+        Matchmaker<Object> matchmaker = new Matchmaker<>(Double.POSITIVE_INFINITY);
+        Object arriving = new Object();
+        Object waiting = new Object() {
+            private boolean taken;
+
+            @Override
+            public boolean equals(Object other) {
+                if (!taken) {
+                    // While the arriving player claims this one and is out of line, this player
+                    // is taken by someone else and the arriving player is cancelled
+                    taken = true;
+                    matchmaker.cancel(this);
+                    matchmaker.cancel(arriving);
+                }
+                return this == other;
+            }
+
+            @Override
+            public int hashCode() {
+                return System.identityHashCode(this);
+            }
+        };
+
+        matchmaker.enqueue(waiting, 1500);
+
+        assertTrue(matchmaker.enqueue(arriving, 1500).isEmpty());
+        assertEquals(0, matchmaker.size());
+        assertTrue(matchmaker.enqueue("Probe", 1500).isEmpty());
+    }
+
+    @Test
+    void test_enqueue_concurrentArrivalsAreAllPaired() throws Exception {
+        Matchmaker<Integer> matchmaker = new Matchmaker<>(Double.POSITIVE_INFINITY);
+        int threads = 4;
+        int playersPerThread = 10_000;
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; thread++) {
+                int offset = thread * playersPerThread;
+                futures.add(executor.submit(() -> {
+                    int pairings = 0;
+                    for (int player = offset; player < offset + playersPerThread; player++) {
+                        if (matchmaker.enqueue(player, player % 3_000).isPresent()) {
+                            pairings++;
+                        }
+                    }
+                    return pairings;
+                }));
+            }
+
+            int pairings = 0;
+            for (Future<Integer> future : futures) {
+                pairings += future.get();
+            }
+            assertEquals(threads * playersPerThread, 2 * pairings + matchmaker.size());
+            assertTrue(matchmaker.size() <= 1);
+        }
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Matchmaker<String>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new Matchmaker<String>(Double.NaN));
+    }
+}
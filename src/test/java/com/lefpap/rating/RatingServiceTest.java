@@ -0,0 +1,97 @@
+package com.lefpap.rating;
+
+import com.lefpap.gamestate.MatchStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingServiceTest {
+
+    @Test
+    void test_elo_updatesBothPlayers() {
+        RatingService service = new RatingService(RatingSystem.elo(32));
+
+        service.record("Alice", "Bob", MatchStatus.PLAYER_ONE_WINS);
+
+        assertEquals(1516, service.getRating("Alice").rating(), 1e-9);
+        assertEquals(1484, service.getRating("Bob").rating(), 1e-9);
+        assertEquals(1, service.getRating("Bob").matches());
+        assertEquals(1500, service.getRating("Carol").rating());
+        assertEquals(2, service.size());
+    }
+
+    @Test
+    void test_elo_undecidedBetweenEqualsChangesNothing() {
+        RatingService service = new RatingService(RatingSystem.elo(32));
+
+        service.record("Alice", "Bob", MatchStatus.UNDECIDED);
+
+        assertEquals(1500, service.getRating("Alice").rating(), 1e-9);
+        assertEquals(1500, service.getRating("Bob").rating(), 1e-9);
+    }
+
+    @Test
+    void test_glicko2_winRaisesRatingAndLowersDeviation() {
+        RatingService service = new RatingService(RatingSystem.glicko2(0.5));
+        Rating initial = service.getRatingSystem().initialRating();
+
+        service.record("Alice", "Bob", MatchStatus.PLAYER_TWO_WINS);
+
+        Rating alice = service.getRating("Alice");
+        Rating bob = service.getRating("Bob");
+        assertTrue(bob.rating() > initial.rating());
+        assertTrue(alice.rating() < initial.rating());
+        assertEquals(initial.rating() - alice.rating(), bob.rating() - initial.rating(), 1e-6);
+        assertTrue(bob.deviation() < initial.deviation());
+        assertEquals(initial.volatility(), bob.volatility(), 1e-3);
+        assertTrue(service.getRatingSystem().expectedScore(bob, alice) > 0.5);
+    }
+
+    @Test
+    void test_record_concurrentUpdatesAreNotLost() throws Exception {
+        RatingService service = new RatingService(RatingSystem.elo(16));
+        int players = 8;
+        int matchesPerThread = 5_000;
+
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int match = 0; match < matchesPerThread; match++) {
+                        int one = (match + offset) % players;
+                        int two = (one + 1 + match % (players - 1)) % players;
+                        service.record("P" + one, "P" + two, MatchStatus.PLAYER_ONE_WINS);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        int matches = 0;
+        for (int player = 0; player < players; player++) {
+            Rating rating = service.getRating("P" + player);
+            assertTrue(Double.isFinite(rating.rating()));
+            matches += rating.matches();
+        }
+        assertEquals(2 * 4 * matchesPerThread, matches);
+    }
+
+    @Test
+    void test_invalidArguments() {
+        RatingService service = new RatingService(RatingSystem.elo(32));
+
+        assertThrows(IllegalArgumentException.class, () -> service.record("Alice", "Bob", MatchStatus.IN_PROGRESS));
+        assertThrows(IllegalArgumentException.class, () -> service.record("Alice", "Alice", MatchStatus.UNDECIDED));
+        assertThrows(IllegalArgumentException.class, () -> RatingSystem.elo(0));
+        assertThrows(IllegalArgumentException.class, () -> RatingSystem.glicko2(-1));
+    }
+}
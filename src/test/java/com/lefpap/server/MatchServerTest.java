@@ -0,0 +1,159 @@
+package com.lefpap.server;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.player.strategy.PlayerChoiceStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchServerTest {
+
+    private MatchServer server;
+    private volatile Supplier<PlayerChoiceStrategy> opponents = () -> new ForceChoiceStrategy(PlayerChoice.ROCK);
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = new MatchServer(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+            2,
+            () -> opponents.get()
+        );
+        server.start();
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void test_manyConcurrentClients_playFullMatches() throws IOException {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Client client = new Client(server.getPort());
+            assertEquals("WELCOME 2", client.readLine());
+            clients.add(client);
+        }
+
+        // Interleave the rounds of all clients
+        for (Client client : clients) {
+            client.send("p");
+        }
+        for (Client client : clients) {
+            assertEquals("ROUND 1 PAPER ROCK WIN 1 0", client.readLine());
+            client.send("SCISSORS");
+        }
+        for (Client client : clients) {
+            assertEquals("ROUND 2 SCISSORS ROCK LOSE 1 1", client.readLine());
+            client.send("paper");
+        }
+        for (Client client : clients) {
+            assertEquals("ROUND 3 PAPER ROCK WIN 2 1", client.readLine());
+            assertEquals("GAME_OVER WIN", client.readLine());
+        }
+
+        assertEquals(200, server.getActiveSessions());
+        for (Client client : clients) {
+            client.close();
+        }
+    }
+
+    @Test
+    void test_invalidInputAndQuit() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            assertEquals("WELCOME 2", client.readLine());
+
+            client.send("lizard");
+            assertEquals("ERROR invalid choice: lizard", client.readLine());
+
+            // A new match starts after the previous one is over
+            client.send("p");
+            client.send("p");
+            client.readLine();
+            client.readLine();
+            assertEquals("GAME_OVER WIN", client.readLine());
+            client.send("x");
+            assertEquals("ROUND 1 SCISSORS ROCK LOSE 0 1", client.readLine());
+
+            client.send("quit");
+            assertEquals("BYE", client.readLine());
+            assertNull(client.readLine());
+        }
+    }
+
+    @Test
+    void test_tooLongLine_closesConnection() throws IOException {
+        try (Client client = new Client(server.getPort())) {
+            client.readLine();
+            client.send("r".repeat(MatchServer.MAX_LINE_LENGTH + 1));
+
+            assertEquals("ERROR line too long", client.readLine());
+            assertNull(client.readLine());
+        }
+    }
+
+    @Test
+    void test_failingOpponent_onlyClosesItsOwnSession() throws IOException {
+        try (Client healthy = new Client(server.getPort())) {
+            assertEquals("WELCOME 2", healthy.readLine());
+
+            opponents = () -> () -> {
+                throw new IllegalStateException("Opponent failed");
+            };
+            try (Client failing = new Client(server.getPort())) {
+                assertEquals("WELCOME 2", failing.readLine());
+                failing.send("rock");
+                assertNull(failing.readLine());
+            }
+
+            opponents = () -> {
+                throw new IllegalStateException("No opponent");
+            };
+            try (Client rejected = new Client(server.getPort())) {
+                assertNull(rejected.readLine());
+            }
+
+            healthy.send("p");
+            assertEquals("ROUND 1 PAPER ROCK WIN 1 0", healthy.readLine());
+        }
+    }
+
+    private static class Client implements Closeable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final Writer writer;
+
+        Client(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setSoTimeout(5_000);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+        }
+
+        void send(String line) throws IOException {
+            writer.write(line + "\n");
+            writer.flush();
+        }
+
+        String readLine() throws IOException {
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.lefpap.session;
+
+import com.lefpap.game.RockPaperScissorsGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHostTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private SessionHost host;
+
+    @BeforeEach
+    void setup() {
+        host = new SessionHost();
+    }
+
+    @AfterEach
+    void teardown() {
+        host.close();
+    }
+
+    @Test
+    void test_manySessions_playToCompletion() throws InterruptedException {
+        // Start the game, then keep playing ROCK and continuing
+        String script = "\n" + "r\n\n".repeat(200);
+
+        List<GameSession> sessions = new ArrayList<>();
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.add(out);
+            sessions.add(host.startRockPaperScissors(input(script), out));
+        }
+
+        for (GameSession session : sessions) {
+            assertTrue(session.awaitTermination(TIMEOUT));
+            assertTrue(session.getFailure().isEmpty());
+        }
+        for (ByteArrayOutputStream out : outputs) {
+            assertTrue(out.toString(StandardCharsets.UTF_8).contains("The winner is"));
+        }
+        assertEquals(0, host.getActiveSessions());
+    }
+
+    @Test
+    void test_quit_endsOnlyTheSession() throws InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameSession session = host.startRockPaperScissors(input("\nr\nq\n"), out);
+
+        assertTrue(session.awaitTermination(TIMEOUT));
+        assertTrue(session.getFailure().isEmpty());
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Quiting game..."));
+        assertFalse(output.contains("The winner is"));
+    }
+
+    @Test
+    void test_terminate_releasesBlockedSession() throws IOException, InterruptedException {
+        PipedOutputStream client = new PipedOutputStream();
+        PipedInputStream in = new PipedInputStream(client);
+        RockPaperScissorsGame game = new RockPaperScissorsGame(in, new PrintStream(new ByteArrayOutputStream()), new Random());
+        GameSession session = host.start(game, client);
+
+        assertTrue(session.isRunning());
+        assertEquals(1, host.getActiveSessions());
+
+        session.terminate();
+
+        assertTrue(session.awaitTermination(TIMEOUT));
+        assertFalse(session.isRunning());
+        assertTrue(session.getFailure().isEmpty());
+    }
+
+    @Test
+    void test_unexpectedEndOfInput_isReportedAsFailure() throws InterruptedException {
+        GameSession session = host.startRockPaperScissors(input(""), new ByteArrayOutputStream());
+
+        assertTrue(session.awaitTermination(TIMEOUT));
+        assertTrue(session.getFailure().isPresent());
+    }
+
+    private static ByteArrayInputStream input(String script) {
+        return new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+package com.lefpap.simulation;
+
+import com.lefpap.event.MatchEventSink;
+import com.lefpap.gamestate.MatchEndPolicy;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.player.strategy.RandomChoiceStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchSimulatorTest {
+
+    @Test
+    void test_dominantStrategy_winsEveryMatch() {
+        MatchSimulator simulator = new MatchSimulator(
+            new ForceChoiceStrategy(PlayerChoice.PAPER),
+            new ForceChoiceStrategy(PlayerChoice.ROCK),
+            3
+        );
+
+        SimulationResult result = simulator.simulate(100);
+
+        assertEquals(100, result.matches());
+        assertEquals(100, result.playerOneWins());
+        assertEquals(0, result.playerTwoWins());
+        assertEquals(300, result.rounds());
+        assertEquals(0, result.drawnRounds());
+    }
+
+    @Test
+    void test_neverEndingPairing_isStoppedByRoundCap() {
+        MatchSimulator simulator = new MatchSimulator(
+            new ForceChoiceStrategy(PlayerChoice.ROCK),
+            new ForceChoiceStrategy(PlayerChoice.ROCK),
+            3,
+            50
+        );
+
+        SimulationResult result = simulator.simulate(2);
+
+        assertEquals(2, result.undecidedMatches());
+        assertEquals(100, result.rounds());
+        assertEquals(100, result.drawnRounds());
+    }
+
+    @Test
+    void test_randomPairing_countsAddUp() {
+        MatchSimulator simulator = new MatchSimulator(
+            new RandomChoiceStrategy(new Random(1)),
+            new RandomChoiceStrategy(new Random(2)),
+            5
+        );
+
+        SimulationResult result = simulator.simulate(1_000);
+
+        assertEquals(1_000, result.playerOneWins() + result.playerTwoWins() + result.undecidedMatches());
+        assertTrue(result.rounds() >= 5_000);
+    }
+
+    @Test
+    void test_bestOfSeries_endsEarly() {
+        MatchSimulator simulator = new MatchSimulator(
+            new ForceChoiceStrategy(PlayerChoice.PAPER),
+            new ForceChoiceStrategy(PlayerChoice.ROCK),
+            MatchEndPolicy.bestOf(101),
+            MatchEventSink.NONE
+        );
+
+        SimulationResult result = simulator.simulate(10);
+
+        assertEquals(10, result.playerOneWins());
+        assertEquals(510, result.rounds());
+    }
+
+    @Test
+    void test_invalidArguments() {
+        ForceChoiceStrategy strategy = new ForceChoiceStrategy(PlayerChoice.ROCK);
+        assertThrows(IllegalArgumentException.class, () -> new MatchSimulator(strategy, strategy, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MatchSimulator(strategy, strategy, 3).simulate(-1));
+    }
+}
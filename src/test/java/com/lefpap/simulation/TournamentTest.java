@@ -0,0 +1,64 @@
+package com.lefpap.simulation;
+
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.player.strategy.RandomChoiceStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private static final List<TournamentEntrant> ENTRANTS = List.of(
+        new TournamentEntrant("Random", RandomChoiceStrategy::new),
+        new TournamentEntrant("Rock", rnd -> new ForceChoiceStrategy(PlayerChoice.ROCK)),
+        new TournamentEntrant("Paper", rnd -> new ForceChoiceStrategy(PlayerChoice.PAPER)),
+        new TournamentEntrant("Random 2", RandomChoiceStrategy::new)
+    );
+
+    @Test
+    void test_run_isDeterministicAcrossThreadCounts() {
+        Tournament tournament = new Tournament(ENTRANTS, 3, 5_000, 42L);
+
+        TournamentResult sequential;
+        TournamentResult parallel;
+        try (ForkJoinPool single = new ForkJoinPool(1); ForkJoinPool many = new ForkJoinPool(4)) {
+            sequential = tournament.run(single);
+            parallel = tournament.run(many);
+        }
+
+        for (int row = 0; row < ENTRANTS.size(); row++) {
+            for (int column = 0; column < ENTRANTS.size(); column++) {
+                assertEquals(sequential.getResult(row, column), parallel.getResult(row, column));
+            }
+        }
+    }
+
+    @Test
+    void test_run_fillsWinRateMatrix() {
+        TournamentResult result = new Tournament(ENTRANTS, 3, 2_000, 7L).run();
+
+        assertEquals(List.of("Random", "Rock", "Paper", "Random 2"), result.getEntrants());
+
+        // Paper always beats Rock
+        assertEquals(1.0, result.getWinRate(2, 1));
+        assertEquals(0.0, result.getWinRate(1, 2));
+        assertEquals(2_000, result.getResult(1, 2).matches());
+
+        // Nobody plays against themselves
+        assertEquals(SimulationResult.EMPTY, result.getResult(0, 0));
+
+        double[][] matrix = result.winRateMatrix();
+        assertEquals(result.getWinRate(0, 3), matrix[0][3]);
+        assertEquals(1.0, matrix[0][3] + matrix[3][0], 0.05);
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(ENTRANTS.subList(0, 1), 3, 10, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(ENTRANTS, 3, 0, 0L));
+    }
+}
@@ -0,0 +1,75 @@
+package com.lefpap.solver;
+
+import com.lefpap.gamestate.RuleSet;
+import com.lefpap.player.PlayerChoice;
+import com.lefpap.player.strategy.ForceChoiceStrategy;
+import com.lefpap.player.strategy.RandomChoiceStrategy;
+import com.lefpap.random.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverTest {
+
+    private static final StrategyEvaluator CLASSIC = new StrategyEvaluator(PayoffMatrix.of(RuleSet.classic()));
+
+    @Test
+    void test_exploitability_ofMixedStrategies() {
+        assertEquals(0, CLASSIC.exploitability(new double[]{1.0 / 3, 1.0 / 3, 1.0 / 3}), 1e-12);
+        assertEquals(1, CLASSIC.exploitability(new double[]{1, 0, 0}), 1e-12);
+        assertEquals(PlayerChoice.PAPER.ordinal(), CLASSIC.bestResponse(new double[]{1, 0, 0}));
+        assertEquals(0.5, CLASSIC.exploitability(new double[]{0.5, 0.5, 0}), 1e-12);
+        assertEquals(-1, CLASSIC.expectedPayoff(new double[]{1, 0, 0}, new double[]{0, 1, 0}), 1e-12);
+    }
+
+    @Test
+    void test_exploitability_ofPlayerChoiceStrategies() {
+        double forced = CLASSIC.exploitability(new ForceChoiceStrategy(PlayerChoice.SCISSORS), 100, RandomStreams.create(1));
+        assertEquals(1, forced, 1e-12);
+
+        double random = CLASSIC.exploitability(
+            new RandomChoiceStrategy(RandomStreams.create(2)), 100_000, RandomStreams.create(3));
+        assertEquals(0, random, 0.02);
+    }
+
+    @Test
+    void test_train_convergesOnClassicGame() {
+        PayoffMatrix payoffs = PayoffMatrix.of(RuleSet.classic());
+        double[] strategy = new RegretMatchingTrainer(payoffs, 4, 42L).train(50_000);
+
+        assertEquals(1, strategy[0] + strategy[1] + strategy[2], 1e-9);
+        assertTrue(new StrategyEvaluator(payoffs).exploitability(strategy) < 0.02);
+    }
+
+    @Test
+    void test_train_convergesOnWeightedVariant() {
+        // Winning with rock pays double: the equilibrium plays paper half of the time
+        PayoffMatrix payoffs = PayoffMatrix.weighted(RuleSet.classic(), new double[]{2, 1, 1});
+        StrategyEvaluator evaluator = new StrategyEvaluator(payoffs);
+        double[] strategy = new RegretMatchingTrainer(payoffs, 4, 7L).train(50_000);
+
+        assertTrue(evaluator.exploitability(strategy) < 0.03);
+        assertTrue(evaluator.exploitability(new double[]{1.0 / 3, 1.0 / 3, 1.0 / 3}) > 0.1);
+        assertEquals(0.25, strategy[PlayerChoice.ROCK.ordinal()], 0.03);
+        assertEquals(0.5, strategy[PlayerChoice.PAPER.ordinal()], 0.03);
+        assertEquals(0.25, strategy[PlayerChoice.SCISSORS.ordinal()], 0.03);
+    }
+
+    @Test
+    void test_train_isDeterministicForSeed() {
+        PayoffMatrix payoffs = PayoffMatrix.of(RuleSet.rockPaperScissorsLizardSpock());
+
+        assertArrayEquals(
+            new RegretMatchingTrainer(payoffs, 3, 5L).train(1_000),
+            new RegretMatchingTrainer(payoffs, 3, 5L).train(1_000)
+        );
+    }
+
+    @Test
+    void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> PayoffMatrix.of(new double[][]{{0, 1}, {1, 0}}));
+        assertThrows(IllegalArgumentException.class, () -> PayoffMatrix.weighted(RuleSet.classic(), new double[]{1, 1}));
+        assertThrows(IllegalArgumentException.class, () -> CLASSIC.exploitability(new double[]{1, 0}));
+        assertThrows(IllegalArgumentException.class, () -> new RegretMatchingTrainer(PayoffMatrix.of(RuleSet.classic()), 0, 0L));
+    }
+}